@@ -2,6 +2,7 @@ plugins {
     id("java")
     id("com.gradleup.shadow") version "8.3.3"
     id("io.freefair.lombok") version "8.6"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.mythicisland.bot"
@@ -35,24 +36,59 @@ dependencies {
     implementation("com.mojang:authlib:6.0.54")
     implementation("net.raphimc:MinecraftAuth:4.1.1")
     implementation("io.netty:netty-all:4.1.115.Final")
+    implementation("io.netty.incubator:netty-incubator-transport-native-io_uring:0.0.25.Final:linux-x86_64")
+    implementation("io.netty.incubator:netty-incubator-transport-native-io_uring:0.0.25.Final:linux-aarch_64")
     implementation("com.squareup.okhttp3:okhttp:4.12.0")
     implementation("org.yaml:snakeyaml:2.2")
     implementation("org.apache.commons:commons-lang3:3.14.0")
     implementation("com.github.ben-manes.caffeine:caffeine:3.1.8")
     implementation("org.bouncycastle:bcprov-jdk18on:1.77")
     implementation("commons-codec:commons-codec:1.16.0")
+
+    jmh("io.papermc.paper:paper-api:1.21-R0.1-SNAPSHOT")
+
+    testImplementation("io.papermc.paper:paper-api:1.21-R0.1-SNAPSHOT")
+    testImplementation(platform("org.junit:junit-bom:5.10.2"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+    testImplementation("com.squareup.okhttp3:mockwebserver:4.12.0")
+    testImplementation("com.squareup.okhttp3:okhttp-tls:4.12.0")
 }
 
 java {
     toolchain.languageVersion.set(JavaLanguageVersion.of(21))
 }
 
+jmh {
+    jmhVersion.set("1.37")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results-${project.version}.json"))
+    includes.addAll(providers.gradleProperty("jmhIncludes").map { listOf(it) }.orElse(emptyList()))
+}
+
 tasks {
     compileJava {
         options.encoding = Charsets.UTF_8.name()
         options.release.set(21)
     }
 
+    named<JavaCompile>("compileJmhJava") {
+        options.encoding = Charsets.UTF_8.name()
+        options.release.set(21)
+    }
+
+    compileTestJava {
+        options.encoding = Charsets.UTF_8.name()
+        options.release.set(21)
+    }
+
+    test {
+        useJUnitPlatform()
+    }
+
     javadoc {
         options.encoding = Charsets.UTF_8.name()
     }
@@ -0,0 +1,81 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.config;
+
+import com.mythicisland.mc.bot.constants.MessageKeys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LanguageManagerBenchmark {
+
+    private Path langDir;
+    private LanguageManager languageManager;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        langDir = Files.createTempDirectory("simplebot-lang");
+        languageManager = new LanguageManager(new File(langDir.toFile(), "lang"), "en-us");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(langDir)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public String plainMessage() {
+        return languageManager.getMessage(MessageKeys.BOT_CONNECTED);
+    }
+
+    @Benchmark
+    public String singlePlaceholder() {
+        return languageManager.getMessage(MessageKeys.BOT_DISCONNECTED, "Connection reset by peer");
+    }
+
+    @Benchmark
+    public String statusLine() {
+        return languageManager.getMessage(MessageKeys.DISPLAY_METRICS_PACKET_LINE,
+                "ClientboundMoveEntityPosPacket", 184_213L, 0L, 3L, 41L, 1_204L);
+    }
+}
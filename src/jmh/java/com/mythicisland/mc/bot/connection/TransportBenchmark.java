@@ -0,0 +1,199 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.connection;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU the client event loop spends on {@code connections} mostly idle bot sockets, per transport.
+ * <p>
+ * A local NIO server sends every connection an 8-byte ping each {@code pingIntervalMillis}, standing in
+ * for the server's keep-alive, and the client echoes it back. Each benchmark call idles for
+ * {@link #WINDOW_MILLIS}; {@code clientCpuMicros} sums the CPU time the client loop threads used during
+ * those windows, so divided by the operation count it is the CPU cost of one second of idling. Native
+ * transports that cannot load on the machine fail their trial instead of silently measuring NIO.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class TransportBenchmark {
+
+    private static final long WINDOW_MILLIS = 1000;
+    private static final int CLIENT_THREADS = 2;
+    private static final int PING_SIZE = 8;
+
+    @Param({"nio", "epoll", "io_uring"})
+    public String transport;
+
+    @Param({"1000"})
+    public int connections;
+
+    @Param({"1000"})
+    public int pingIntervalMillis;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final List<Long> clientThreadIds = new ArrayList<>();
+
+    private EventLoopGroup serverGroup;
+    private EventLoopGroup clientGroup;
+    private ChannelGroup serverChannels;
+    private ScheduledFuture<?> pinger;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Transport selected = Transport.fromConfigName(transport);
+        if (selected == null || !selected.isAvailable()) {
+            throw new IllegalStateException("Transport " + transport + " is not available on this machine");
+        }
+
+        serverGroup = new NioEventLoopGroup(1, new DefaultThreadFactory("bench-server", true));
+        serverChannels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+        Channel server = new ServerBootstrap()
+                .group(serverGroup)
+                .channel(NioServerSocketChannel.class)
+                .option(ChannelOption.SO_BACKLOG, connections)
+                .childHandler(new ChannelInitializer<>() {
+                    @Override
+                    protected void initChannel(Channel channel) {
+                        serverChannels.add(channel);
+                        channel.pipeline().addLast(new Discard());
+                    }
+                })
+                .bind(new InetSocketAddress("127.0.0.1", 0))
+                .sync()
+                .channel();
+
+        clientGroup = selected.createGroup(CLIENT_THREADS, new DefaultThreadFactory("bench-client", true));
+        Bootstrap client = new Bootstrap()
+                .group(clientGroup)
+                .channel(selected.getChannelClass())
+                .option(ChannelOption.TCP_NODELAY, true)
+                .handler(new Echo());
+        for (int i = 0; i < connections; i++) {
+            client.connect(server.localAddress()).sync();
+        }
+
+        for (EventExecutor loop : clientGroup) {
+            clientThreadIds.add(loop.submit(() -> Thread.currentThread().threadId()).get());
+        }
+
+        pinger = serverGroup.next().scheduleAtFixedRate(() -> {
+            for (Channel channel : serverChannels) {
+                ByteBuf ping = channel.alloc().buffer(PING_SIZE).writeLong(System.nanoTime());
+                channel.writeAndFlush(ping, channel.voidPromise());
+            }
+        }, pingIntervalMillis, pingIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pinger.cancel(false);
+        serverChannels.close().awaitUninterruptibly();
+        clientGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).awaitUninterruptibly();
+        serverGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).awaitUninterruptibly();
+    }
+
+    @Benchmark
+    public void idle(CpuCounters counters) throws InterruptedException {
+        long before = clientCpuNanos();
+        Thread.sleep(WINDOW_MILLIS);
+        counters.clientCpuMicros += TimeUnit.NANOSECONDS.toMicros(clientCpuNanos() - before);
+    }
+
+    private long clientCpuNanos() {
+        long total = 0;
+        for (long id : clientThreadIds) {
+            total += Math.max(0, threads.getThreadCpuTime(id));
+        }
+        return total;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CpuCounters {
+
+        public long clientCpuMicros;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            clientCpuMicros = 0;
+        }
+    }
+
+    @ChannelHandler.Sharable
+    private static final class Echo extends ChannelInboundHandlerAdapter {
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            ctx.writeAndFlush(msg, ctx.voidPromise());
+        }
+    }
+
+    private static final class Discard extends ChannelInboundHandlerAdapter {
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            ((ByteBuf) msg).release();
+        }
+    }
+}
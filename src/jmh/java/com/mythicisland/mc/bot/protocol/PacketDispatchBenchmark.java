@@ -0,0 +1,124 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.protocol;
+
+import com.github.steveice10.mc.protocol.packet.ingame.clientbound.ClientboundKeepAlivePacket;
+import com.github.steveice10.mc.protocol.packet.ingame.clientbound.ClientboundSystemChatPacket;
+import com.github.steveice10.mc.protocol.packet.ingame.clientbound.entity.ClientboundMoveEntityPosPacket;
+import com.github.steveice10.mc.protocol.packet.ingame.clientbound.entity.ClientboundRotateHeadPacket;
+import com.github.steveice10.mc.protocol.packet.ingame.clientbound.entity.ClientboundSetEntityMotionPacket;
+import com.github.steveice10.mc.protocol.packet.ingame.clientbound.level.ClientboundSetTimePacket;
+import com.github.steveice10.packetlib.packet.Packet;
+import com.mythicisland.mc.bot.metrics.PacketMetrics;
+import net.kyori.adventure.text.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the two parts of the inbound path in {@link PacketHandler#handleIncomingPacket}, replayed over
+ * a pre-generated stream of packets: {@code dispatch} is the registry lookup and listener calls,
+ * {@code recordLatency} the per-type latency bookkeeping around them.
+ * <p>
+ * The mixes approximate what a bot sees on a server: {@code idle} is a quiet spawn area,
+ * {@code crowded} is dominated by entity movement from nearby players and mobs. Most of these
+ * packets have no listener, which is the common case the registry has to make cheap.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PacketDispatchBenchmark {
+
+    private static final int STREAM_SIZE = 4096;
+    private static final long LATENCY_NANOS = 250;
+
+    @Param({"idle", "crowded"})
+    public String mix;
+
+    private PacketHandlerRegistry registry;
+    private PacketMetrics metrics;
+    private Packet[] stream;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup(Blackhole blackhole) {
+        registry = new PacketHandlerRegistry();
+        registry.register(ClientboundKeepAlivePacket.class, blackhole::consume);
+        registry.register(ClientboundSystemChatPacket.class, blackhole::consume);
+        metrics = new PacketMetrics();
+        stream = generateStream(mix);
+    }
+
+    @Benchmark
+    public boolean dispatch() {
+        return registry.dispatch(next());
+    }
+
+    @Benchmark
+    public void recordLatency() {
+        metrics.statsFor(next().getClass()).record(LATENCY_NANOS);
+    }
+
+    private Packet next() {
+        Packet packet = stream[cursor];
+        cursor = (cursor + 1) & (STREAM_SIZE - 1);
+        return packet;
+    }
+
+    private static Packet[] generateStream(String mix) {
+        SplittableRandom random = new SplittableRandom(42);
+        Packet[] packets = new Packet[STREAM_SIZE];
+        boolean crowded = "crowded".equals(mix);
+
+        for (int i = 0; i < STREAM_SIZE; i++) {
+            int roll = random.nextInt(100);
+            int entityId = random.nextInt(crowded ? 200 : 10);
+
+            if (roll < (crowded ? 55 : 20)) {
+                packets[i] = new ClientboundMoveEntityPosPacket(entityId, random.nextDouble(), 0, random.nextDouble(), true);
+            } else if (roll < (crowded ? 80 : 40)) {
+                packets[i] = new ClientboundRotateHeadPacket(entityId, (float) random.nextDouble(360));
+            } else if (roll < (crowded ? 92 : 60)) {
+                packets[i] = new ClientboundSetEntityMotionPacket(entityId, random.nextDouble(), 0, random.nextDouble());
+            } else if (roll < (crowded ? 96 : 80)) {
+                packets[i] = new ClientboundSetTimePacket(i * 20L, i * 20L % 24000);
+            } else if (roll < (crowded ? 99 : 95)) {
+                packets[i] = new ClientboundSystemChatPacket(Component.text("Player" + entityId + " joined the game"), false);
+            } else {
+                packets[i] = new ClientboundKeepAlivePacket(random.nextLong());
+            }
+        }
+        return packets;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls on disabled levels, as they happen on a production server with debug and packet logging
+ * off. The concatenating variant is the baseline the lazy overloads replace.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BotLoggerBenchmark {
+
+    private String botName;
+    private long pingId;
+    private Object packetType;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BotLogger.setDebugMode(false);
+        botName = "main";
+        pingId = 8_172_331_004L;
+        packetType = String.class;
+    }
+
+    @Benchmark
+    public void debugConcatenated() {
+        BotLogger.debug("[" + botName + "] Keep-alive received: " + pingId);
+    }
+
+    @Benchmark
+    public void debugTemplate() {
+        BotLogger.debug("[{}] Keep-alive received: {}", botName, pingId);
+    }
+
+    @Benchmark
+    public void debugPrimitive() {
+        BotLogger.debug("Keep-alive received: {}", pingId);
+    }
+
+    @Benchmark
+    public void debugSupplier() {
+        BotLogger.debug(() -> "[" + botName + "] Keep-alive received: " + pingId);
+    }
+
+    @Benchmark
+    public void packetType() {
+        BotLogger.packet(packetType.getClass());
+    }
+}
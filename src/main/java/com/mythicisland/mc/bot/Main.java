@@ -25,29 +25,33 @@ package com.mythicisland.mc.bot;
 
 import com.mythicisland.mc.bot.commands.BotCommand;
 import com.mythicisland.mc.bot.commands.BotTabCompleter;
+import com.mythicisland.mc.bot.config.BotConfig;
+import com.mythicisland.mc.bot.config.ConfigDiff;
 import com.mythicisland.mc.bot.config.ConfigManager;
+import com.mythicisland.mc.bot.config.ConfigWatcher;
 import com.mythicisland.mc.bot.config.LanguageManager;
 import com.mythicisland.mc.bot.connection.ConnectionManager;
-import com.mythicisland.mc.bot.core.MinecraftBot;
+import com.mythicisland.mc.bot.core.BotFleet;
 import com.mythicisland.mc.bot.tasks.KeepAliveTask;
-import com.mythicisland.mc.bot.tasks.ReconnectTask;
 import com.mythicisland.mc.bot.utils.BotLogger;
 import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitTask;
 
+import java.util.concurrent.CompletableFuture;
+
 @Getter
 public class Main extends JavaPlugin {
 
     @Getter
     private static Main instance;
-    private MinecraftBot bot;
+    private BotFleet botFleet;
     private ConfigManager configManager;
     private LanguageManager languageManager;
     private ConnectionManager connectionManager;
+    private ConfigWatcher configWatcher;
     private BukkitTask keepAliveTask;
-    private BukkitTask reconnectTask;
 
     @Override
     public void onEnable() {
@@ -71,6 +75,7 @@ public class Main extends JavaPlugin {
     public void onDisable() {
         try {
             shutdownPlugin();
+            BotLogger.shutdown();
             getLogger().info("Minecraft Bot Plugin disabled!");
 
         } catch (Exception e) {
@@ -84,18 +89,24 @@ public class Main extends JavaPlugin {
         languageManager = new LanguageManager(this);
         BotLogger.initialize(this);
 
-        bot = new MinecraftBot(this);
+        botFleet = new BotFleet(this);
+        botFleet.initialize();
         connectionManager = new ConnectionManager(this);
         connectionManager.initialize();
 
         registerCommands();
 
+        configWatcher = new ConfigWatcher(this);
+        if (configManager.shouldWatchFiles()) {
+            configWatcher.start();
+        }
+
         BotLogger.info("Plugin components initialized");
     }
 
     private void registerCommands() {
         BotCommand botCommand = new BotCommand(this);
-        BotTabCompleter tabCompleter = new BotTabCompleter();
+        BotTabCompleter tabCompleter = new BotTabCompleter(this);
 
         getCommand("bot").setExecutor(botCommand);
         getCommand("bot").setTabCompleter(tabCompleter);
@@ -107,36 +118,83 @@ public class Main extends JavaPlugin {
         int keepAliveInterval = configManager.getKeepAliveInterval();
         keepAliveTask = new KeepAliveTask(this).runTaskTimer(this, 0L, keepAliveInterval * 20L);
 
-        int reconnectCheckInterval = 60;
-        reconnectTask = new ReconnectTask(this).runTaskTimer(this, 0L, reconnectCheckInterval * 20L);
+        BotLogger.debug("Tasks started (KeepAlive: " + keepAliveInterval + "s)");
+    }
+
+    private void stopTasks() {
+        if (keepAliveTask != null && !keepAliveTask.isCancelled()) {
+            keepAliveTask.cancel();
+        }
+    }
+
+    /**
+     * Reloads {@code config.yml} and applies only what changed, leaving connected bots alone.
+     * Must be called on the main thread.
+     *
+     * @param reloadLanguages also re-read the language files even if the configured language is unchanged
+     * @return completes once any language reload has been published
+     * @throws com.mythicisland.mc.bot.exceptions.ConfigurationException if the new file is invalid;
+     *         the previous configuration stays active
+     */
+    public CompletableFuture<Void> reloadConfiguration(boolean reloadLanguages) {
+        BotConfig previous = configManager.getBotConfig();
+        configManager.reload();
+        ConfigDiff diff = ConfigDiff.between(previous, configManager.getBotConfig());
+
+        if (diff.keepAliveChanged()) {
+            stopTasks();
+            startTasks();
+        }
+
+        if (diff.serverProbeChanged()) {
+            botFleet.getServerSelector().reconfigure(configManager.getServerProbeInterval(),
+                    configManager.getConnectionTimeout());
+        }
+
+        if (diff.loggingChanged()) {
+            BotLogger.reload(configManager);
+        }
+
+        if (diff.watchFilesChanged()) {
+            if (configManager.shouldWatchFiles()) {
+                configWatcher.start();
+            } else {
+                configWatcher.stop();
+            }
+        }
+
+        if (diff.restartRequired()) {
+            BotLogger.warning("Account, server, fleet or language cache settings changed - restart the server to apply them");
+        }
 
-        BotLogger.debug("Tasks started (KeepAlive: " + keepAliveInterval + "s, Reconnect-Check: " + reconnectCheckInterval + "s)");
+        if (reloadLanguages || diff.languageChanged()) {
+            return languageManager.reloadLanguages();
+        }
+        return CompletableFuture.completedFuture(null);
     }
 
     private void autoConnectIfEnabled() {
         if (configManager.shouldAutoConnectOnStartup()) {
             Bukkit.getScheduler().runTaskLater(this, () -> {
                 BotLogger.info("Starting automatic connection...");
-                bot.connect();
+                connectionManager.connectAll();
             }, 60L);
         }
     }
 
     private void shutdownPlugin() {
-        if (keepAliveTask != null && !keepAliveTask.isCancelled()) {
-            keepAliveTask.cancel();
+        if (configWatcher != null) {
+            configWatcher.stop();
         }
 
-        if (reconnectTask != null && !reconnectTask.isCancelled()) {
-            reconnectTask.cancel();
-        }
+        stopTasks();
 
         if (connectionManager != null) {
             connectionManager.shutdown();
         }
 
-        if (bot != null && bot.isConnected()) {
-            bot.disconnect("Plugin is being disabled");
+        if (botFleet != null) {
+            botFleet.shutdown("Plugin is being disabled");
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.auth;
+
+import com.mythicisland.mc.bot.connection.CircuitBreaker;
+import com.mythicisland.mc.bot.connection.TokenBucket;
+import com.mythicisland.mc.bot.exceptions.AuthThrottledException;
+import com.mythicisland.mc.bot.exceptions.AuthenticationException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Gate in front of every request to the auth backends. A token bucket spaces requests out so a fleet
+ * reconnecting at once does not trip the backend's throttling, and a circuit breaker stops requests
+ * entirely while the backend keeps failing. Cached tokens never pass through here.
+ * <p>
+ * Requests held back here fail with {@link AuthThrottledException}. Only transport and backend failures
+ * count against the breaker; a rejected credential proves the backend is up and counts as a success,
+ * so one misconfigured account cannot pause authentication for the whole fleet.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AuthGuard {
+
+    private static final long MAX_WAIT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final TokenBucket limiter;
+    private final CircuitBreaker breaker;
+
+    public <T> T call(Supplier<T> request) {
+        if (!breaker.tryAcquire()) {
+            throw new AuthThrottledException("Authentication paused after repeated failures, retrying in "
+                    + TimeUnit.MILLISECONDS.toSeconds(breaker.getRemainingOpenMillis()) + "s");
+        }
+
+        try {
+            long waitNanos = limiter.reserve(MAX_WAIT_NANOS);
+            if (waitNanos < 0) {
+                breaker.release();
+                throw new AuthThrottledException("Authentication rate limit exceeded");
+            }
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        } catch (InterruptedException e) {
+            breaker.release();
+            Thread.currentThread().interrupt();
+            throw new AuthThrottledException("Interrupted while waiting for the auth rate limit", e);
+        }
+
+        try {
+            T result = request.get();
+            breaker.recordSuccess();
+            return result;
+        } catch (AuthenticationException e) {
+            if (e.isRejected()) {
+                breaker.recordSuccess();
+            } else {
+                breaker.recordFailure();
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            breaker.recordFailure();
+            throw e;
+        }
+    }
+}
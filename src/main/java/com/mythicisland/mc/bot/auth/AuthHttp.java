@@ -0,0 +1,156 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.auth;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.mythicisland.mc.bot.constants.BotConstants;
+import com.mythicisland.mc.bot.metrics.HttpMetrics;
+import lombok.Getter;
+import lombok.experimental.UtilityClass;
+import okhttp3.Call;
+import okhttp3.ConnectionPool;
+import okhttp3.EventListener;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The one HTTP client used for authentication and session-server requests. Connections are pooled
+ * and kept alive, so a fleet logging in together shares a few TLS connections instead of handshaking
+ * once per account.
+ */
+@UtilityClass
+public class AuthHttp {
+
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    private static final int MAX_IDLE_CONNECTIONS = 8;
+    private static final long KEEP_ALIVE_MINUTES = 5;
+
+    @Getter
+    private static final HttpMetrics metrics = new HttpMetrics();
+
+    @Getter
+    private static final OkHttpClient client = new OkHttpClient.Builder()
+            .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+            .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+            .connectTimeout(BotConstants.CONNECTION_TIMEOUT_MS, TimeUnit.MILLISECONDS)
+            .readTimeout(BotConstants.READ_TIMEOUT_MS, TimeUnit.MILLISECONDS)
+            .writeTimeout(BotConstants.READ_TIMEOUT_MS, TimeUnit.MILLISECONDS)
+            .retryOnConnectionFailure(true)
+            .eventListenerFactory(call -> new MetricsListener())
+            .build();
+
+    /**
+     * Posts {@code body} as JSON and returns the response code and parsed body (an empty object for
+     * responses without content).
+     */
+    public static JsonResponse postJson(String url, JsonObject body) throws IOException {
+        Request request = new Request.Builder()
+                .url(url)
+                .post(RequestBody.create(body.toString(), JSON))
+                .build();
+
+        try (Response response = client.newCall(request).execute()) {
+            ResponseBody responseBody = response.body();
+            String content = responseBody != null ? responseBody.string() : "";
+            JsonObject json = content.isBlank() ? new JsonObject() : JsonParser.parseString(content).getAsJsonObject();
+            return new JsonResponse(response.code(), json);
+        }
+    }
+
+    public static void shutdown() {
+        client.dispatcher().executorService().shutdown();
+        client.connectionPool().evictAll();
+    }
+
+    public record JsonResponse(int code, JsonObject body) {
+
+        public boolean isSuccessful() {
+            return code >= 200 && code < 300;
+        }
+
+        /**
+         * Whether the server refused the request itself rather than failing to handle it.
+         */
+        public boolean isRejected() {
+            return code == 401 || code == 403;
+        }
+
+        public String errorMessage() {
+            if (body.has("errorMessage")) {
+                return body.get("errorMessage").getAsString();
+            }
+            return "HTTP " + code;
+        }
+    }
+
+    /**
+     * Holds per-call state, so {@code eventListenerFactory} creates one per call. Responses with a
+     * status of 400 or above count as errors next to transport failures.
+     */
+    private static class MetricsListener extends EventListener {
+
+        private long startNanos;
+        private HttpMetrics.HostStats stats;
+
+        @Override
+        public void callStart(Call call) {
+            startNanos = System.nanoTime();
+            stats = metrics.statsFor(call.request().url().host());
+        }
+
+        @Override
+        public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+            stats.recordConnection();
+        }
+
+        @Override
+        public void responseHeadersEnd(Call call, Response response) {
+            if (response.code() >= 400) {
+                stats.recordError();
+            }
+        }
+
+        @Override
+        public void callEnd(Call call) {
+            stats.record(System.nanoTime() - startNanos);
+        }
+
+        @Override
+        public void callFailed(Call call, IOException ioe) {
+            stats.recordError();
+        }
+    }
+}
@@ -23,73 +23,110 @@
  */
 package com.mythicisland.mc.bot.auth;
 
-import com.github.steveice10.mc.auth.data.GameProfile;
-import com.github.steveice10.mc.auth.exception.request.InvalidCredentialsException;
-import com.github.steveice10.mc.auth.service.AuthenticationService;
-import com.github.steveice10.mc.auth.service.MojangAuthenticationService;
 import com.mythicisland.mc.bot.constants.BotConstants;
+import com.mythicisland.mc.bot.exceptions.AuthThrottledException;
 import com.mythicisland.mc.bot.exceptions.AuthenticationException;
+import com.mythicisland.mc.bot.metrics.AuthMetrics;
 import com.mythicisland.mc.bot.utils.BotLogger;
 import lombok.experimental.UtilityClass;
 
+import java.util.concurrent.TimeUnit;
+
 @UtilityClass
 public class AuthManager {
 
-    public static AuthenticationService authenticateMicrosoft(String email, String password) {
-        try {
-            BotLogger.debug("Starting Microsoft authentication for: " + email);
-            BotLogger.warning("Microsoft authentication not fully implemented yet");
-            BotLogger.warning("Using legacy authentication as fallback");
-            return authenticateLegacy(email, password);
+    /**
+     * A cached token is reused as long as it stays valid for at least this long.
+     */
+    public static final long REUSE_MARGIN_MILLIS = TimeUnit.HOURS.toMillis(2);
 
-        } catch (Exception e) {
-            BotLogger.error("Microsoft authentication failed: " + e.getMessage());
-            throw new AuthenticationException("Microsoft auth failed: " + e.getMessage(), e);
-        }
+    /**
+     * Returns a session for {@code account}, preferring the cheapest source: a still valid cached token,
+     * then a refresh of the cached token, and only then a full login with the account password.
+     * Refreshes and logins pass through {@code guard}. A refresh that fails transiently keeps the cached
+     * token and rethrows; only a token the backend rejected is dropped in favour of the password.
+     */
+    public static AuthSession authenticate(BotAccount account, TokenCache tokenCache, AuthMetrics metrics,
+                                           AuthGuard guard) {
+        return authenticate(account, tokenCache, metrics, guard, false);
     }
 
-    public static AuthenticationService authenticateLegacy(String username, String password) {
+    /**
+     * Like {@link #authenticate(BotAccount, TokenCache, AuthMetrics, AuthGuard)}; with {@code forceRefresh}
+     * a cached token is never reused as is, only refreshed or replaced.
+     */
+    public static AuthSession authenticate(BotAccount account, TokenCache tokenCache, AuthMetrics metrics,
+                                           AuthGuard guard, boolean forceRefresh) {
+        long start = System.nanoTime();
         try {
-            BotLogger.debug("Starting legacy authentication for: " + username);
+            AuthSession cached = tokenCache.get(account);
 
-            AuthenticationService authService = new MojangAuthenticationService();
-            authService.setUsername(username);
-            authService.setPassword(password);
-            authService.login();
+            if (!forceRefresh && cached != null && cached.isUsableFor(REUSE_MARGIN_MILLIS)) {
+                BotLogger.debug("[{}] Reusing cached session token", account.getName());
+                metrics.recordCacheHit(System.nanoTime() - start);
+                return cached;
+            }
 
-            BotLogger.debug("Legacy authentication successful");
-            return authService;
+            if (cached != null && cached.canRefresh()) {
+                try {
+                    AuthSession refreshed = guard.call(() -> refresh(account, cached, forceRefresh));
+                    tokenCache.put(account, refreshed);
+                    metrics.recordRefresh(System.nanoTime() - start);
+                    BotLogger.debug("[{}] Cached session token refreshed", account.getName());
+                    return refreshed;
+                } catch (AuthThrottledException e) {
+                    throw e;
+                } catch (AuthenticationException e) {
+                    if (!e.isRejected()) {
+                        // Keep the token for the next attempt; the reconnect backoff handles the outage.
+                        throw e;
+                    }
+                    BotLogger.debug("[{}] Token rejected, logging in again: {}", account.getName(), e.getMessage());
+                    tokenCache.remove(account);
+                }
+            }
 
-        } catch (InvalidCredentialsException e) {
-            BotLogger.error("Invalid credentials for: " + username);
-            throw new AuthenticationException("Invalid credentials", e);
-        } catch (Exception e) {
-            BotLogger.error("Legacy authentication failed: " + e.getMessage());
-            throw new AuthenticationException("Legacy auth failed: " + e.getMessage(), e);
+            AuthSession session = guard.call(() -> login(account));
+            tokenCache.put(account, session);
+            metrics.recordFullLogin(System.nanoTime() - start);
+            return session;
+
+        } catch (AuthenticationException e) {
+            metrics.recordFailure();
+            throw e;
         }
     }
 
-    public static AuthenticationService authenticate(String accountType, String emailOrUsername, String password) {
-        if (BotConstants.ACCOUNT_TYPE_MICROSOFT.equalsIgnoreCase(accountType)) {
-            return authenticateMicrosoft(emailOrUsername, password);
-        } else if (BotConstants.ACCOUNT_TYPE_LEGACY.equalsIgnoreCase(accountType)) {
-            return authenticateLegacy(emailOrUsername, password);
+    public static AuthSession login(BotAccount account) {
+        if (account.isMicrosoft()) {
+            return MicrosoftAuth.login(account);
+        } else if (BotConstants.ACCOUNT_TYPE_LEGACY.equalsIgnoreCase(account.getType())) {
+            return LegacyAuth.login(account);
         } else {
-            throw new AuthenticationException("Unknown account type: " + accountType);
+            throw new AuthenticationException("Unknown account type: " + account.getType());
         }
     }
 
-    public static boolean validateCredentials(String accountType, String emailOrUsername, String password) {
+    public static AuthSession refresh(BotAccount account, AuthSession cached) {
+        return refresh(account, cached, false);
+    }
+
+    /**
+     * @param renew obtain a new access token even if the cached one is still valid
+     */
+    public static AuthSession refresh(BotAccount account, AuthSession cached, boolean renew) {
+        if (cached.getMicrosoftSession() != null) {
+            return MicrosoftAuth.refresh(account, cached, renew);
+        }
+        return LegacyAuth.refresh(account, cached);
+    }
+
+    public static boolean validateCredentials(BotAccount account) {
         try {
-            AuthenticationService authService = authenticate(accountType, emailOrUsername, password);
-            return authService.getSelectedProfile() != null;
+            return login(account).isValid();
         } catch (Exception e) {
             BotLogger.debug("Credential validation failed: " + e.getMessage());
             return false;
         }
     }
-
-    public static GameProfile getGameProfile(AuthenticationService authService) {
-        return authService.getSelectedProfile();
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,79 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.auth;
+
+import com.github.steveice10.mc.auth.data.GameProfile;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The result of an authentication: the profile and the tokens needed to join a server and to obtain
+ * the next session without the account password. Instances are immutable and are what the
+ * {@link TokenCache} stores on disk.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AuthSession {
+
+    public static final long TOKEN_LIFETIME_MILLIS = TimeUnit.HOURS.toMillis(24);
+
+    private final String accountType;
+    private final String login;
+    private final String profileId;
+    private final String profileName;
+    private final String accessToken;
+    private final String clientToken;
+    private final String refreshToken;
+    private final String microsoftSession;
+    private final long issuedAtMillis;
+    private final long expiresAtMillis;
+
+    public GameProfile getProfile() {
+        return new GameProfile(UUID.fromString(profileId), profileName);
+    }
+
+    public boolean isValid() {
+        return profileId != null && accessToken != null && !accessToken.isEmpty();
+    }
+
+    /**
+     * Whether the access token can still be used for at least {@code marginMillis}.
+     */
+    public boolean isUsableFor(long marginMillis) {
+        return isValid() && System.currentTimeMillis() + marginMillis < expiresAtMillis;
+    }
+
+    public boolean canRefresh() {
+        return microsoftSession != null
+                || (refreshToken != null && !refreshToken.isEmpty())
+                || (clientToken != null && accessToken != null);
+    }
+
+    public boolean belongsTo(BotAccount account) {
+        return account.getType().equalsIgnoreCase(accountType) && account.getLogin().equalsIgnoreCase(login);
+    }
+}
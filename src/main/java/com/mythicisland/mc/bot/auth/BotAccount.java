@@ -21,35 +21,29 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
  * SOFTWARE.
  */
-package com.mythicisland.mc.bot.tasks;
+package com.mythicisland.mc.bot.auth;
 
-import com.mythicisland.mc.bot.Main;
-import com.mythicisland.mc.bot.core.BotState;
-import com.mythicisland.mc.bot.core.MinecraftBot;
-import com.mythicisland.mc.bot.utils.BotLogger;
+import com.mythicisland.mc.bot.constants.BotConstants;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.bukkit.scheduler.BukkitRunnable;
 
+@Getter
+@EqualsAndHashCode
 @RequiredArgsConstructor
-public class ReconnectTask extends BukkitRunnable {
+public class BotAccount {
 
-    private final Main plugin;
+    private final String name;
+    private final String type;
+    private final String email;
+    private final String username;
+    private final String password;
 
-    @Override
-    public void run() {
-        MinecraftBot bot = plugin.getBot();
-
-        if (!plugin.getConfigManager().shouldAutoReconnect()) {
-            return;
-        }
-
-        if (bot.getState() == BotState.OFFLINE || bot.getState() == BotState.ERROR) {
-            BotLogger.debug("Checking for automatic reconnect...");
+    public boolean isMicrosoft() {
+        return BotConstants.ACCOUNT_TYPE_MICROSOFT.equalsIgnoreCase(type);
+    }
 
-            if (bot.getReconnectAttempts().get() < plugin.getConfigManager().getMaxReconnectAttempts()) {
-                BotLogger.info("Starting automatic reconnect...");
-                bot.connect();
-            }
-        }
+    public String getLogin() {
+        return isMicrosoft() ? email : username;
     }
 }
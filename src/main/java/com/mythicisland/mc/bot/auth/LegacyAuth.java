@@ -0,0 +1,104 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.auth;
+
+import com.google.gson.JsonObject;
+import com.mythicisland.mc.bot.exceptions.AuthenticationException;
+import com.mythicisland.mc.bot.utils.BotLogger;
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Mojang (Yggdrasil) username/password login and token refresh, sent through {@link AuthHttp}.
+ */
+@UtilityClass
+public class LegacyAuth {
+
+    private static final String AUTH_SERVER = "https://authserver.mojang.com";
+
+    public static AuthSession login(BotAccount account) {
+        BotLogger.debug("Starting legacy authentication for: " + account.getUsername());
+
+        JsonObject agent = new JsonObject();
+        agent.addProperty("name", "Minecraft");
+        agent.addProperty("version", 1);
+
+        JsonObject request = new JsonObject();
+        request.add("agent", agent);
+        request.addProperty("username", account.getUsername());
+        request.addProperty("password", account.getPassword());
+        request.addProperty("clientToken", UUID.randomUUID().toString());
+        request.addProperty("requestUser", false);
+
+        AuthSession session = post(account, "/authenticate", request);
+        BotLogger.debug("Legacy authentication successful");
+        return session;
+    }
+
+    public static AuthSession refresh(BotAccount account, AuthSession cached) {
+        JsonObject request = new JsonObject();
+        request.addProperty("accessToken", cached.getAccessToken());
+        request.addProperty("clientToken", cached.getClientToken());
+        return post(account, "/refresh", request);
+    }
+
+    private static AuthSession post(BotAccount account, String path, JsonObject request) {
+        AuthHttp.JsonResponse response;
+        try {
+            response = AuthHttp.postJson(AUTH_SERVER + path, request);
+        } catch (IOException | RuntimeException e) {
+            BotLogger.error("Legacy authentication failed: " + e.getMessage());
+            throw new AuthenticationException("Legacy auth failed: " + e.getMessage(), e);
+        }
+
+        if (response.isRejected()) {
+            BotLogger.error("Credentials or token rejected for: " + account.getUsername());
+            throw AuthenticationException.rejected("Invalid credentials: " + response.errorMessage());
+        }
+        if (!response.isSuccessful()) {
+            throw new AuthenticationException("Legacy auth failed: " + response.errorMessage());
+        }
+
+        JsonObject body = response.body();
+        if (!body.has("selectedProfile") || !body.has("accessToken")) {
+            throw new AuthenticationException("Session is invalid after authentication");
+        }
+
+        JsonObject profile = body.getAsJsonObject("selectedProfile");
+        long now = System.currentTimeMillis();
+        return new AuthSession(account.getType(), account.getLogin(), toUuid(profile.get("id").getAsString()).toString(),
+                profile.get("name").getAsString(), body.get("accessToken").getAsString(),
+                body.get("clientToken").getAsString(), null, null, now, now + AuthSession.TOKEN_LIFETIME_MILLIS);
+    }
+
+    private static UUID toUuid(String id) {
+        if (id.length() == 32) {
+            id = id.substring(0, 8) + "-" + id.substring(8, 12) + "-" + id.substring(12, 16) + "-"
+                    + id.substring(16, 20) + "-" + id.substring(20);
+        }
+        return UUID.fromString(id);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.auth;
+
+import com.mythicisland.mc.bot.constants.BotConstants;
+import com.mythicisland.mc.bot.metrics.HttpMetrics;
+import net.lenni0451.commons.httpclient.HttpClient;
+import net.lenni0451.commons.httpclient.HttpResponse;
+import net.lenni0451.commons.httpclient.requests.HttpRequest;
+
+import java.io.IOException;
+
+/**
+ * MinecraftAuth's HTTP client with the plugin's timeouts, recording every request of the Microsoft chain
+ * in the same {@link HttpMetrics} as {@link AuthHttp}. The remaining settings mirror
+ * {@code MinecraftAuth.createHttpClient()}.
+ */
+final class MeteredHttpClient extends HttpClient {
+
+    private final HttpMetrics metrics;
+
+    MeteredHttpClient(HttpMetrics metrics) {
+        this.metrics = metrics;
+        setConnectTimeout(BotConstants.CONNECTION_TIMEOUT_MS);
+        setReadTimeout(BotConstants.READ_TIMEOUT_MS);
+        setFollowRedirects(false);
+        setCookieManager(null);
+        setHeader("Accept", "application/json");
+        setHeader("Accept-Language", "en-US,en");
+        setHeader("User-Agent", "SimpleBot");
+    }
+
+    @Override
+    public HttpResponse execute(HttpRequest request) throws IOException {
+        HttpMetrics.HostStats stats = metrics.statsFor(request.getURL().getHost());
+        long start = System.nanoTime();
+        try {
+            HttpResponse response = super.execute(request);
+            stats.record(System.nanoTime() - start);
+            if (response.getStatusCode() >= 400) {
+                stats.recordError();
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            stats.recordError();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.auth;
+
+import com.github.steveice10.mc.auth.data.GameProfile;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.mythicisland.mc.bot.exceptions.AuthenticationException;
+import com.mythicisland.mc.bot.utils.BotLogger;
+import lombok.experimental.UtilityClass;
+import net.lenni0451.commons.httpclient.HttpClient;
+import net.lenni0451.commons.httpclient.exceptions.HttpResponseException;
+import net.raphimc.minecraftauth.MinecraftAuth;
+import net.raphimc.minecraftauth.responsehandler.exception.MsaRequestException;
+import net.raphimc.minecraftauth.step.java.StepMCProfile;
+import net.raphimc.minecraftauth.step.java.session.StepFullJavaSession;
+import net.raphimc.minecraftauth.step.msa.StepCredentialsMsaCode;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Microsoft account login through MinecraftAuth's MSA &rarr; Xbox Live &rarr; XSTS &rarr; Minecraft chain.
+ * <p>
+ * The whole step chain is serialized into {@link AuthSession#getMicrosoftSession()}, so every step keeps
+ * its own token and expiry in the {@link TokenCache}. A refresh hands the stored chain back to
+ * MinecraftAuth, which only repeats the steps whose tokens have expired; a reconnect within a day
+ * usually costs no request at all, and later ones start from the long-lived MSA refresh token instead
+ * of the account password. To renew a Minecraft token before it runs out, {@link #refresh(BotAccount,
+ * AuthSession, boolean)} marks that one step as expired, so only the Minecraft login is repeated.
+ */
+@UtilityClass
+public class MicrosoftAuth {
+
+    private static volatile HttpClient httpClient = createHttpClient();
+    private static final Set<String> REJECTED_OAUTH_ERRORS = Set.of("invalid_grant", "invalid_client", "unauthorized_client");
+    private static final List<String> REJECTION_MARKERS = List.of("invalid_grant", "invalid_client");
+
+    public static AuthSession login(BotAccount account) {
+        try {
+            BotLogger.debug("Starting Microsoft authentication for: " + account.getEmail());
+            StepFullJavaSession.FullJavaSession session = MinecraftAuth.JAVA_CREDENTIALS_LOGIN.getFromInput(
+                    httpClient, new StepCredentialsMsaCode.MsaCredentials(account.getEmail(), account.getPassword()));
+
+            BotLogger.debug("Microsoft authentication successful");
+            return toSession(account, session);
+
+        } catch (AuthenticationException e) {
+            throw e;
+        } catch (Exception e) {
+            BotLogger.error("Microsoft authentication failed: " + e.getMessage());
+            throw classify("Microsoft auth failed: " + e.getMessage(), e);
+        }
+    }
+
+    public static AuthSession refresh(BotAccount account, AuthSession cached) {
+        return refresh(account, cached, false);
+    }
+
+    /**
+     * @param renew obtain a new Minecraft token even if the cached one is still valid
+     */
+    public static AuthSession refresh(BotAccount account, AuthSession cached, boolean renew) {
+        try {
+            JsonObject chain = JsonParser.parseString(cached.getMicrosoftSession()).getAsJsonObject();
+            if (renew && !expireStep(chain, cached.getAccessToken())) {
+                BotLogger.debug("[{}] Minecraft token step not found in cached chain", account.getName());
+            }
+            StepFullJavaSession.FullJavaSession stored = MinecraftAuth.JAVA_CREDENTIALS_LOGIN.fromJson(chain);
+            StepFullJavaSession.FullJavaSession refreshed = MinecraftAuth.JAVA_CREDENTIALS_LOGIN.refresh(httpClient, stored);
+            return toSession(account, refreshed);
+
+        } catch (AuthenticationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw classify("Microsoft token refresh failed: " + e.getMessage(), e);
+        }
+    }
+
+    static HttpClient createHttpClient() {
+        return new MeteredHttpClient(AuthHttp.getMetrics());
+    }
+
+    /**
+     * Replaces the client used for every step, so tests can route the chain to a local stand-in server.
+     */
+    static void setHttpClient(HttpClient client) {
+        httpClient = client;
+    }
+
+    /**
+     * A failure is a rejection when the backend itself refused: an OAuth error such as {@code invalid_grant}
+     * from the MSA token endpoint, or a 401/403 response from any step. Network errors, other statuses and
+     * anything unrecognised stay transient. Message text is only searched for the OAuth error codes, for
+     * wrappers that dropped the typed cause.
+     */
+    static AuthenticationException classify(String message, Exception e) {
+        for (Throwable current = e; current != null; current = current.getCause()) {
+            if (current instanceof MsaRequestException msa && REJECTED_OAUTH_ERRORS.contains(msa.getError())) {
+                return AuthenticationException.rejected(message, e);
+            }
+            if (current instanceof HttpResponseException http
+                    && (http.getStatusCode() == 401 || http.getStatusCode() == 403)) {
+                return AuthenticationException.rejected(message, e);
+            }
+        }
+
+        for (Throwable current = e; current != null; current = current.getCause()) {
+            String text = String.valueOf(current.getMessage()).toLowerCase(Locale.ROOT);
+            for (String marker : REJECTION_MARKERS) {
+                if (text.contains(marker)) {
+                    return AuthenticationException.rejected(message, e);
+                }
+            }
+        }
+        return new AuthenticationException(message, e);
+    }
+
+    /**
+     * Marks the step holding {@code accessToken} as expired, leaving the steps before it untouched so
+     * MinecraftAuth redoes only that step and the ones built on it.
+     */
+    static boolean expireStep(JsonObject step, String accessToken) {
+        JsonElement token = step.get("accessToken");
+        if (token != null && token.isJsonPrimitive() && token.getAsString().equals(accessToken)
+                && step.has("expireTimeMs")) {
+            step.addProperty("expireTimeMs", 0L);
+            return true;
+        }
+        for (Map.Entry<String, JsonElement> entry : step.entrySet()) {
+            if (entry.getValue().isJsonObject() && expireStep(entry.getValue().getAsJsonObject(), accessToken)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static AuthSession toSession(BotAccount account, StepFullJavaSession.FullJavaSession session) {
+        StepMCProfile.MCProfile profile = session.getMcProfile();
+        if (profile == null || profile.getMcToken() == null) {
+            throw new AuthenticationException("Session is invalid after authentication");
+        }
+
+        GameProfile gameProfile = new GameProfile(profile.getId(), profile.getName());
+        String serialized = MinecraftAuth.JAVA_CREDENTIALS_LOGIN.toJson(session).toString();
+        return new AuthSession(account.getType(), account.getLogin(), gameProfile.getId().toString(),
+                gameProfile.getName(), profile.getMcToken().getAccessToken(), null, null, serialized,
+                System.currentTimeMillis(), profile.getMcToken().getExpireTimeMs());
+    }
+}
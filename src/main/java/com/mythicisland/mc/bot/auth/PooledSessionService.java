@@ -0,0 +1,65 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.auth;
+
+import com.github.steveice10.mc.auth.data.GameProfile;
+import com.github.steveice10.mc.auth.exception.request.InvalidCredentialsException;
+import com.github.steveice10.mc.auth.exception.request.RequestException;
+import com.github.steveice10.mc.auth.exception.request.ServiceUnavailableException;
+import com.github.steveice10.mc.auth.service.SessionService;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+
+/**
+ * Sends the session-server join request of the login handshake through {@link AuthHttp} instead of
+ * MCAuthLib's own per-request connections. A refused access token is reported as
+ * {@link InvalidCredentialsException}, which the login path uses to drop the cached session.
+ */
+public class PooledSessionService extends SessionService {
+
+    private static final String JOIN_URL = "https://sessionserver.mojang.com/session/minecraft/join";
+
+    @Override
+    public void joinServer(GameProfile profile, String authenticationToken, String serverId) throws RequestException {
+        JsonObject request = new JsonObject();
+        request.addProperty("accessToken", authenticationToken);
+        request.addProperty("selectedProfile", profile.getId().toString().replace("-", ""));
+        request.addProperty("serverId", serverId);
+
+        try {
+            AuthHttp.JsonResponse response = AuthHttp.postJson(JOIN_URL, request);
+            if (response.isRejected()) {
+                throw new InvalidCredentialsException("Session join rejected: " + response.errorMessage());
+            }
+            if (!response.isSuccessful()) {
+                throw new ServiceUnavailableException("Session join failed: " + response.errorMessage());
+            }
+        } catch (IOException e) {
+            throw new ServiceUnavailableException("Session join failed: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            throw new RequestException("Session join failed: " + e.getMessage(), e);
+        }
+    }
+}
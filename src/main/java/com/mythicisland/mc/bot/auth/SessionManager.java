@@ -23,96 +23,52 @@
  */
 package com.mythicisland.mc.bot.auth;
 
-import com.github.steveice10.mc.auth.service.AuthenticationService;
-import com.mythicisland.mc.bot.exceptions.AuthenticationException;
 import com.mythicisland.mc.bot.utils.BotLogger;
-import lombok.Data;
+import lombok.Getter;
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-
-@Data
+/**
+ * Holds the session a bot currently uses. New sessions from {@link SessionRefresher} replace the old
+ * one in a single volatile write, so readers always see a complete session.
+ */
+@Getter
 public class SessionManager {
 
-    private AuthenticationService authService;
-    private LocalDateTime lastRefresh;
-    private int refreshAttempts = 0;
-    private static final int MAX_REFRESH_ATTEMPTS = 3;
-    private static final int REFRESH_THRESHOLD_HOURS = 22;
+    private final BotAccount account;
+    private final TokenCache tokenCache;
+    private volatile AuthSession session;
+    private volatile long lastRefreshMillis;
 
-    public SessionManager(AuthenticationService authService) {
-        this.authService = authService;
-        this.lastRefresh = LocalDateTime.now();
+    public SessionManager(BotAccount account, AuthSession session, TokenCache tokenCache) {
+        this.account = account;
+        this.tokenCache = tokenCache;
+        publish(session);
     }
 
-    public boolean needsRefresh() {
-        if (lastRefresh == null) {
-            return true;
-        }
-
-        long hoursSinceRefresh = ChronoUnit.HOURS.between(lastRefresh, LocalDateTime.now());
-        return hoursSinceRefresh >= REFRESH_THRESHOLD_HOURS;
+    public void publish(AuthSession session) {
+        this.session = session;
+        this.lastRefreshMillis = System.currentTimeMillis();
     }
 
-    public boolean refreshSession() {
-        if (!needsRefresh()) {
-            BotLogger.debug("Session refresh not necessary");
-            return true;
-        }
-
-        if (refreshAttempts >= MAX_REFRESH_ATTEMPTS) {
-            BotLogger.error("Maximum number of refresh attempts reached");
-            return false;
-        }
-
-        try {
-            BotLogger.debug("Attempting session refresh...");
-            if (authService.getUsername() != null && authService.getPassword() != null) {
-                authService.login();
-            } else {
-                BotLogger.warning("No username/password available for session refresh");
-                return false;
-            }
-
-            lastRefresh = LocalDateTime.now();
-            refreshAttempts = 0;
-
-            BotLogger.debug("Session successfully refreshed");
-            return true;
-
-        } catch (Exception e) {
-            refreshAttempts++;
-            BotLogger.error("Session refresh failed (attempt " + refreshAttempts + "): " + e.getMessage());
-
-            if (refreshAttempts >= MAX_REFRESH_ATTEMPTS) {
-                throw new AuthenticationException("Session refresh failed after " + MAX_REFRESH_ATTEMPTS + " attempts", e);
-            }
-
-            return false;
-        }
+    public boolean needsRefresh() {
+        AuthSession current = session;
+        return current == null || !current.isUsableFor(AuthManager.REUSE_MARGIN_MILLIS);
     }
 
     public boolean isSessionValid() {
-        try {
-            return authService.getSelectedProfile() != null &&
-                    authService.getAccessToken() != null &&
-                    !authService.getAccessToken().isEmpty();
-        } catch (Exception e) {
-            BotLogger.debug("Session validation failed: " + e.getMessage());
-            return false;
-        }
+        AuthSession current = session;
+        return current != null && current.isValid();
     }
 
     public void invalidateSession() {
         BotLogger.debug("Invalidating session");
-        lastRefresh = null;
-        refreshAttempts = 0;
+        tokenCache.remove(account);
+        session = null;
     }
 
     public String getSessionInfo() {
-        if (authService.getSelectedProfile() != null) {
-            return authService.getSelectedProfile().getName() + " (" +
-                    (isSessionValid() ? "valid" : "invalid") + ")";
+        AuthSession current = session;
+        if (current != null) {
+            return current.getProfileName() + " (" + (isSessionValid() ? "valid" : "invalid") + ")";
         }
         return "No session";
     }
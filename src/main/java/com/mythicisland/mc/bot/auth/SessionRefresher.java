@@ -0,0 +1,193 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.auth;
+
+import com.mythicisland.mc.bot.core.BotState;
+import com.mythicisland.mc.bot.core.BotStateListener;
+import com.mythicisland.mc.bot.core.MinecraftBot;
+import com.mythicisland.mc.bot.metrics.AuthMetrics;
+import com.mythicisland.mc.bot.utils.BotLogger;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refreshes the session of every online bot before its token runs out.
+ * <p>
+ * Each refresh is scheduled {@link AuthManager#REUSE_MARGIN_MILLIS} plus a random jitter of up to
+ * {@link #MAX_JITTER_MILLIS} before expiry, so bots that logged in together do not refresh together.
+ * All authentication for an account, scheduled or from the connect pipeline, goes through
+ * {@link #authenticate}, which collapses concurrent requests into one in-flight future. The old token
+ * stays published until the new one is ready.
+ */
+public class SessionRefresher implements BotStateListener {
+
+    private static final long MAX_JITTER_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    private static final long RETRY_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final int MAX_RETRY_SHIFT = 5;
+
+    private final Timer timer;
+    private final TokenCache tokenCache;
+    private final AuthMetrics metrics;
+    private final AuthGuard guard;
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("SimpleBot-Auth-", 0).factory());
+    private final Map<String, CompletableFuture<AuthSession>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Timeout> scheduled = new ConcurrentHashMap<>();
+    private final Map<String, Integer> failedAttempts = new ConcurrentHashMap<>();
+
+    public SessionRefresher(Timer timer, TokenCache tokenCache, AuthMetrics metrics, AuthGuard guard) {
+        this.timer = timer;
+        this.tokenCache = tokenCache;
+        this.metrics = metrics;
+        this.guard = guard;
+    }
+
+    /**
+     * Authenticates {@code account}, joining an authentication that is already running for it.
+     *
+     * @param forceRefresh skip a still valid cached token and obtain a new one
+     */
+    public CompletableFuture<AuthSession> authenticate(BotAccount account, boolean forceRefresh) {
+        CompletableFuture<AuthSession> created = new CompletableFuture<>();
+        CompletableFuture<AuthSession> existing = inFlight.putIfAbsent(account.getName(), created);
+        if (existing != null) {
+            return existing;
+        }
+
+        executor.execute(() -> {
+            try {
+                created.complete(AuthManager.authenticate(account, tokenCache, metrics, guard, forceRefresh));
+            } catch (Throwable e) {
+                created.completeExceptionally(e);
+            } finally {
+                inFlight.remove(account.getName(), created);
+            }
+        });
+        return created;
+    }
+
+    public void schedule(MinecraftBot bot) {
+        SessionManager sessionManager = bot.getSessionManager();
+        AuthSession session = sessionManager != null ? sessionManager.getSession() : null;
+        if (session == null) {
+            return;
+        }
+
+        long jitter = ThreadLocalRandom.current().nextLong(MAX_JITTER_MILLIS + 1);
+        long delayMs = session.getExpiresAtMillis() - System.currentTimeMillis()
+                - AuthManager.REUSE_MARGIN_MILLIS - jitter;
+        scheduleIn(bot, Math.max(0, delayMs));
+    }
+
+    private void scheduleIn(MinecraftBot bot, long delayMs) {
+        Timeout timeout = timer.newTimeout(t -> refreshNow(bot), delayMs, TimeUnit.MILLISECONDS);
+        Timeout previous = scheduled.put(bot.getName(), timeout);
+        if (previous != null) {
+            previous.cancel();
+        }
+        BotLogger.debug("[{}] Session refresh scheduled in {}s", bot.getName(), TimeUnit.MILLISECONDS.toSeconds(delayMs));
+    }
+
+    public void cancel(MinecraftBot bot) {
+        Timeout timeout = scheduled.remove(bot.getName());
+        if (timeout != null) {
+            timeout.cancel();
+        }
+        failedAttempts.remove(bot.getName());
+    }
+
+    /**
+     * Starts a refresh for {@code bot} if its session needs one. Safe to call repeatedly; callers share
+     * the running refresh.
+     */
+    public void refreshIfNeeded(MinecraftBot bot) {
+        SessionManager sessionManager = bot.getSessionManager();
+        if (sessionManager != null && sessionManager.needsRefresh()) {
+            refreshNow(bot);
+        }
+    }
+
+    private void refreshNow(MinecraftBot bot) {
+        SessionManager sessionManager = bot.getSessionManager();
+        if (sessionManager == null || !bot.getState().isActive()) {
+            return;
+        }
+
+        AuthSession previous = sessionManager.getSession();
+        authenticate(bot.getAccount(), true).whenComplete((session, error) -> {
+            if (error == null) {
+                sessionManager.publish(session);
+                failedAttempts.remove(bot.getName());
+                if (bot.getState() != BotState.ONLINE) {
+                    return;
+                }
+
+                if (previous != null && session.getExpiresAtMillis() <= previous.getExpiresAtMillis()) {
+                    // The backend handed back the same token; rescheduling ahead of expiry would loop.
+                    BotLogger.warning("[" + bot.getName() + "] Session refresh returned the same token");
+                    long untilExpiry = session.getExpiresAtMillis() - System.currentTimeMillis();
+                    scheduleIn(bot, Math.max(RETRY_DELAY_MILLIS, untilExpiry + RETRY_DELAY_MILLIS));
+                } else {
+                    BotLogger.debug("[{}] Session refreshed ahead of expiry", bot.getName());
+                    schedule(bot);
+                }
+                return;
+            }
+
+            int attempt = failedAttempts.merge(bot.getName(), 1, Integer::sum);
+            BotLogger.error("[" + bot.getName() + "] Session refresh failed (attempt " + attempt + "): "
+                    + error.getMessage());
+
+            AuthSession current = sessionManager.getSession();
+            if (current != null && current.isUsableFor(0)) {
+                scheduleIn(bot, RETRY_DELAY_MILLIS << Math.min(attempt - 1, MAX_RETRY_SHIFT));
+            } else if (bot.isConnected()) {
+                bot.disconnect("Session expired");
+            }
+        });
+    }
+
+    @Override
+    public void onStateChange(MinecraftBot bot, BotState from, BotState to) {
+        if (to == BotState.ONLINE) {
+            schedule(bot);
+        } else if (from == BotState.ONLINE) {
+            cancel(bot);
+        }
+    }
+
+    public void shutdown() {
+        scheduled.values().forEach(Timeout::cancel);
+        scheduled.clear();
+        executor.shutdownNow();
+    }
+}
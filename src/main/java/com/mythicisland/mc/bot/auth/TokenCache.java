@@ -0,0 +1,207 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.auth;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.mythicisland.mc.bot.utils.BotLogger;
+import org.bouncycastle.crypto.InvalidCipherTextException;
+import org.bouncycastle.crypto.engines.AESEngine;
+import org.bouncycastle.crypto.modes.GCMBlockCipher;
+import org.bouncycastle.crypto.modes.GCMModeCipher;
+import org.bouncycastle.crypto.params.AEADParameters;
+import org.bouncycastle.crypto.params.KeyParameter;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps every bot's {@link AuthSession} across restarts so reconnects can reuse or refresh a token
+ * instead of logging in with the password again.
+ * <p>
+ * The cache is one AES-256-GCM encrypted file. Its key is generated on first use and stored next to it,
+ * created with owner-only permissions where the file system supports them. Since key and ciphertext sit
+ * side by side, this only protects against casual reads, such as the folder being copied into a bug
+ * report or a backup; anyone who can read the key file can decrypt the tokens. A file that cannot be
+ * decrypted is treated as empty; the next successful login simply rewrites it.
+ */
+public class TokenCache {
+
+    private static final String CACHE_FILE = "tokens.bin";
+    private static final String KEY_FILE = "tokens.key";
+    private static final byte FORMAT_VERSION = 1;
+    private static final int KEY_BYTES = 32;
+    private static final int NONCE_BYTES = 12;
+    private static final int TAG_BITS = 128;
+    private static final Type ENTRIES_TYPE = new TypeToken<Map<String, AuthSession>>() { }.getType();
+
+    private final Path cacheFile;
+    private final Path keyFile;
+    private final Gson gson = new Gson();
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, AuthSession> sessions = new ConcurrentHashMap<>();
+    private byte[] key;
+
+    public TokenCache(File directory) {
+        this.cacheFile = directory.toPath().resolve(CACHE_FILE);
+        this.keyFile = directory.toPath().resolve(KEY_FILE);
+    }
+
+    public synchronized void load() {
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            key = loadOrCreateKey();
+
+            if (!Files.exists(cacheFile)) {
+                return;
+            }
+
+            Map<String, AuthSession> stored = gson.fromJson(decrypt(Files.readAllBytes(cacheFile)), ENTRIES_TYPE);
+            if (stored != null) {
+                sessions.putAll(stored);
+            }
+            BotLogger.debug("Token cache loaded with " + sessions.size() + " session(s)");
+
+        } catch (IOException | InvalidCipherTextException | RuntimeException e) {
+            BotLogger.warning("Could not read token cache, starting empty: " + e.getMessage());
+            sessions.clear();
+        }
+    }
+
+    public AuthSession get(BotAccount account) {
+        AuthSession session = sessions.get(account.getName());
+        return session != null && session.belongsTo(account) ? session : null;
+    }
+
+    public void put(BotAccount account, AuthSession session) {
+        sessions.put(account.getName(), session);
+        persist();
+    }
+
+    public void remove(BotAccount account) {
+        if (sessions.remove(account.getName()) != null) {
+            persist();
+        }
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    private synchronized void persist() {
+        if (key == null) {
+            return;
+        }
+
+        try {
+            byte[] encrypted = encrypt(gson.toJson(new HashMap<>(sessions), ENTRIES_TYPE));
+            Path temp = cacheFile.resolveSibling(CACHE_FILE + ".tmp");
+            Files.write(temp, encrypted);
+            try {
+                Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | InvalidCipherTextException e) {
+            BotLogger.error("Could not write token cache: " + e.getMessage());
+        }
+    }
+
+    private byte[] loadOrCreateKey() throws IOException {
+        if (Files.exists(keyFile)) {
+            byte[] stored = Files.readAllBytes(keyFile);
+            if (stored.length == KEY_BYTES) {
+                return stored;
+            }
+            BotLogger.warning("Token cache key has an unexpected size, generating a new one");
+        }
+
+        byte[] created = new byte[KEY_BYTES];
+        random.nextBytes(created);
+        Path temp = createOwnerOnlyFile(keyFile.resolveSibling(KEY_FILE + ".tmp"));
+        Files.write(temp, created);
+        try {
+            Files.move(temp, keyFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, keyFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.deleteIfExists(cacheFile);
+        return created;
+    }
+
+    /**
+     * Creates an empty file that is owner-only from the start, so the key is never readable by others,
+     * not even between creation and a later chmod.
+     */
+    private static Path createOwnerOnlyFile(Path file) throws IOException {
+        Files.deleteIfExists(file);
+        try {
+            return Files.createFile(file, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } catch (UnsupportedOperationException e) {
+            BotLogger.warning("Token key permissions cannot be restricted on this file system");
+            return Files.createFile(file);
+        }
+    }
+
+    private byte[] encrypt(String json) throws InvalidCipherTextException {
+        byte[] nonce = new byte[NONCE_BYTES];
+        random.nextBytes(nonce);
+        byte[] plain = json.getBytes(StandardCharsets.UTF_8);
+
+        GCMModeCipher cipher = GCMBlockCipher.newInstance(AESEngine.newInstance());
+        cipher.init(true, new AEADParameters(new KeyParameter(key), TAG_BITS, nonce, new byte[] {FORMAT_VERSION}));
+        byte[] out = new byte[1 + NONCE_BYTES + cipher.getOutputSize(plain.length)];
+        out[0] = FORMAT_VERSION;
+        System.arraycopy(nonce, 0, out, 1, NONCE_BYTES);
+        int written = cipher.processBytes(plain, 0, plain.length, out, 1 + NONCE_BYTES);
+        cipher.doFinal(out, 1 + NONCE_BYTES + written);
+        return out;
+    }
+
+    private String decrypt(byte[] data) throws InvalidCipherTextException {
+        if (data.length < 1 + NONCE_BYTES || data[0] != FORMAT_VERSION) {
+            throw new InvalidCipherTextException("Unsupported token cache format");
+        }
+
+        byte[] nonce = Arrays.copyOfRange(data, 1, 1 + NONCE_BYTES);
+        GCMModeCipher cipher = GCMBlockCipher.newInstance(AESEngine.newInstance());
+        cipher.init(false, new AEADParameters(new KeyParameter(key), TAG_BITS, nonce, new byte[] {FORMAT_VERSION}));
+        byte[] plain = new byte[cipher.getOutputSize(data.length - 1 - NONCE_BYTES)];
+        int written = cipher.processBytes(data, 1 + NONCE_BYTES, data.length - 1 - NONCE_BYTES, plain, 0);
+        written += cipher.doFinal(plain, written);
+        return new String(plain, 0, written, StandardCharsets.UTF_8);
+    }
+}
@@ -24,6 +24,7 @@
 package com.mythicisland.mc.bot.behavior;
 
 import com.mythicisland.mc.bot.core.MinecraftBot;
+import com.mythicisland.mc.bot.protocol.PacketHandlerRegistry;
 
 public interface BotBehavior {
 
@@ -35,6 +36,9 @@ public interface BotBehavior {
 
     void onChatMessage(MinecraftBot bot, String message, String sender);
 
+    default void registerPacketHandlers(MinecraftBot bot, PacketHandlerRegistry registry) {
+    }
+
     String getName();
 
     boolean isEnabled();
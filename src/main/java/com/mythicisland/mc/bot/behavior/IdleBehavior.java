@@ -43,7 +43,7 @@ public class IdleBehavior implements BotBehavior {
 
     @Override
     public void onDisconnect(MinecraftBot bot, String reason) {
-        BotLogger.debug("IdleBehavior: Bot disconnected - " + reason);
+        BotLogger.debug("IdleBehavior: Bot disconnected - {}", reason);
     }
 
     @Override
@@ -57,7 +57,7 @@ public class IdleBehavior implements BotBehavior {
     public void onChatMessage(MinecraftBot bot, String message, String sender) {
         if (!enabled) return;
 
-        BotLogger.debug("IdleBehavior: Chat from " + sender + ": " + message);
+        BotLogger.debug("IdleBehavior: Chat from {}: {}", sender, message);
         updateActivity();
     }
 
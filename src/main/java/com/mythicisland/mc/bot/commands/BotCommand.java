@@ -23,17 +23,43 @@
  */
 package com.mythicisland.mc.bot.commands;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.mythicisland.mc.bot.Main;
+import com.mythicisland.mc.bot.auth.AuthHttp;
+import com.mythicisland.mc.bot.config.LanguageManager;
+import com.mythicisland.mc.bot.connection.CircuitBreaker;
+import com.mythicisland.mc.bot.connection.ConnectExecutor;
+import com.mythicisland.mc.bot.connection.ReconnectHandler;
+import com.mythicisland.mc.bot.connection.ServerEndpoint;
+import com.mythicisland.mc.bot.connection.TokenBucket;
 import com.mythicisland.mc.bot.constants.BotConstants;
 import com.mythicisland.mc.bot.constants.MessageKeys;
+import com.mythicisland.mc.bot.core.BotFleet;
 import com.mythicisland.mc.bot.core.BotState;
 import com.mythicisland.mc.bot.core.MinecraftBot;
+import com.mythicisland.mc.bot.metrics.AuthMetrics;
+import com.mythicisland.mc.bot.metrics.BotMetrics;
+import com.mythicisland.mc.bot.metrics.HttpMetrics;
+import com.mythicisland.mc.bot.metrics.KeepAliveStats;
+import com.mythicisland.mc.bot.metrics.LatencyHistogram;
+import com.mythicisland.mc.bot.metrics.PacketMetrics;
+import com.mythicisland.mc.bot.metrics.WriteMetrics;
+import com.mythicisland.mc.bot.utils.AsyncLogAppender;
+import com.mythicisland.mc.bot.utils.BotLogger;
 import lombok.RequiredArgsConstructor;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
 @RequiredArgsConstructor
 public class BotCommand implements CommandExecutor {
 
@@ -43,33 +69,37 @@ public class BotCommand implements CommandExecutor {
     public boolean onCommand(CommandSender sender, @NotNull Command command, @NotNull String label, String[] args) {
 
         if (!sender.hasPermission(BotConstants.PERMISSION_USE)) {
-            sender.sendMessage(plugin.getLanguageManager().getMessage(MessageKeys.COMMAND_BOT_NO_PERMISSION));
+            sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.COMMAND_BOT_NO_PERMISSION));
             return true;
         }
 
         if (args.length == 0) {
-            sender.sendMessage(plugin.getLanguageManager().getMessage(MessageKeys.COMMAND_BOT_USAGE));
+            sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.COMMAND_BOT_USAGE));
             return true;
         }
 
-        MinecraftBot bot = plugin.getBot();
         String subCommand = args[0].toLowerCase();
 
         switch (subCommand) {
             case "connect":
-                handleConnect(sender, bot);
+                forEachTarget(sender, args, bot -> handleConnect(sender, bot));
                 break;
 
             case "disconnect":
-                handleDisconnect(sender, bot);
+                forEachTarget(sender, args, bot -> handleDisconnect(sender, bot));
                 break;
 
             case "status":
-                handleStatus(sender, bot);
+                forEachTarget(sender, args, bot -> handleStatus(sender, bot));
+                sendPipelineStatus(sender);
+                break;
+
+            case "metrics":
+                handleMetrics(sender);
                 break;
 
             case "reconnect":
-                handleReconnect(sender, bot);
+                forEachTarget(sender, args, bot -> handleReconnect(sender, bot));
                 break;
 
             case "reload":
@@ -77,7 +107,7 @@ public class BotCommand implements CommandExecutor {
                 break;
 
             default:
-                sender.sendMessage(plugin.getLanguageManager().getMessage(
+                sender.sendMessage(plugin.getLanguageManager().getMessage(sender,
                         MessageKeys.COMMAND_BOT_UNKNOWN_SUBCOMMAND, subCommand));
                 return false;
         }
@@ -85,25 +115,43 @@ public class BotCommand implements CommandExecutor {
         return true;
     }
 
+    private void forEachTarget(CommandSender sender, String[] args, Consumer<MinecraftBot> action) {
+        BotFleet fleet = plugin.getBotFleet();
+
+        if (args.length < 2 || args[1].equalsIgnoreCase(BotConstants.ALL_BOTS)) {
+            fleet.getBots().forEach(action);
+            return;
+        }
+
+        MinecraftBot bot = fleet.getBot(args[1]);
+        if (bot == null) {
+            sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.BOT_NOT_FOUND, args[1]));
+            return;
+        }
+
+        action.accept(bot);
+    }
+
     private void handleConnect(CommandSender sender, MinecraftBot bot) {
         if (bot.isConnected()) {
-            sender.sendMessage(plugin.getLanguageManager().getMessage(MessageKeys.BOT_ALREADY_CONNECTED));
+            sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.BOT_ALREADY_CONNECTED));
         } else {
-            sender.sendMessage(plugin.getLanguageManager().getMessage(MessageKeys.BOT_CONNECTING));
+            sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.BOT_CONNECTING));
+            plugin.getConnectionManager().resetReconnect(bot);
             bot.connect().thenRun(() -> {
                 if (bot.isConnected()) {
-                    sender.sendMessage(plugin.getLanguageManager().getMessage(MessageKeys.BOT_CONNECTED));
+                    sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.BOT_CONNECTED));
                 }
             });
         }
     }
 
     private void handleDisconnect(CommandSender sender, MinecraftBot bot) {
-        if (!bot.isConnected()) {
-            sender.sendMessage(plugin.getLanguageManager().getMessage(MessageKeys.BOT_NOT_CONNECTED));
+        if (!bot.getState().isActive()) {
+            sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.BOT_NOT_CONNECTED));
         } else {
             bot.disconnect("Manuell getrennt");
-            sender.sendMessage(plugin.getLanguageManager().getMessage(MessageKeys.BOT_DISCONNECTED, "Manuell getrennt"));
+            sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.BOT_DISCONNECTED, "Manuell getrennt"));
         }
     }
 
@@ -114,50 +162,206 @@ public class BotCommand implements CommandExecutor {
         String uptime = bot.getUptimeString();
 
         String statusColor = getStatusColor(state);
-        String statusText = plugin.getLanguageManager().getMessage("bot.status." + state.name().toLowerCase());
+        String statusText = plugin.getLanguageManager().getMessage(sender, "bot.status." + state.name().toLowerCase());
 
-        sender.sendMessage(plugin.getLanguageManager().getMessage(MessageKeys.DISPLAY_STATUS_HEADER));
-        sender.sendMessage(plugin.getLanguageManager().getMessage(MessageKeys.DISPLAY_STATUS_LINE, statusColor + statusText));
-        sender.sendMessage(plugin.getLanguageManager().getMessage(MessageKeys.DISPLAY_SERVER_LINE, serverInfo));
-        sender.sendMessage(plugin.getLanguageManager().getMessage(MessageKeys.DISPLAY_ACCOUNT_LINE, accountInfo));
+        sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.DISPLAY_STATUS_HEADER));
+        sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.DISPLAY_NAME_LINE, bot.getName()));
+        sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.DISPLAY_STATUS_LINE, statusColor + statusText));
+        sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.DISPLAY_SERVER_LINE, serverInfo));
+        sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.DISPLAY_ACCOUNT_LINE, accountInfo));
 
         if (bot.isConnected()) {
-            sender.sendMessage(plugin.getLanguageManager().getMessage(MessageKeys.DISPLAY_UPTIME_LINE, uptime));
+            sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.DISPLAY_UPTIME_LINE, uptime));
+        }
+
+        KeepAliveStats keepAlive = bot.getBotSession().getKeepAliveStats();
+        if (keepAlive.hasSamples()) {
+            long interval = keepAlive.getAverageIntervalMillis();
+            sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.DISPLAY_KEEPALIVE_LINE,
+                    interval < 0 ? "-" : interval,
+                    keepAlive.getAverageJitterMillis(),
+                    keepAlive.getJitter().getPercentileMicros(99.0) / 1000,
+                    keepAlive.getAverageResponseMicros(),
+                    keepAlive.getResponseLatency().getPercentileMicros(99.0),
+                    keepAlive.getStalls()));
+        }
+
+        ReconnectHandler.PendingReconnect pendingReconnect =
+                plugin.getConnectionManager().getReconnectHandler().getPendingReconnect(bot);
+        if (pendingReconnect != null) {
+            sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.DISPLAY_RECONNECT_LINE,
+                    pendingReconnect.getRemainingSeconds(), pendingReconnect.getAttempt()));
         }
 
         if (bot.getLastDisconnectReason() != null) {
-            sender.sendMessage(plugin.getLanguageManager().getMessage(
+            sender.sendMessage(plugin.getLanguageManager().getMessage(sender,
                     MessageKeys.DISPLAY_LAST_ERROR_LINE, bot.getLastDisconnectReason()));
         }
     }
 
+    private void sendPipelineStatus(CommandSender sender) {
+        BotFleet fleet = plugin.getBotFleet();
+        List<ReconnectHandler.PendingReconnect> pendingReconnects =
+                plugin.getConnectionManager().getReconnectHandler().getPendingReconnects();
+        sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.DISPLAY_FLEET_LINE,
+                fleet.getOnlineCount(), fleet.size(), pendingReconnects.size()));
+        if (!pendingReconnects.isEmpty()) {
+            ReconnectHandler.PendingReconnect next = pendingReconnects.get(0);
+            sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.DISPLAY_FLEET_RECONNECT_LINE,
+                    next.getBotName(), next.getRemainingSeconds(), next.getAttempt()));
+        }
+
+        ConnectExecutor connectExecutor = plugin.getBotFleet().getConnectExecutor();
+        sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.DISPLAY_PIPELINE_LINE,
+                connectExecutor.getQueueDepth(),
+                connectExecutor.getInFlight(),
+                connectExecutor.getMaxConcurrent(),
+                connectExecutor.getStageStats(ConnectExecutor.Stage.AUTHENTICATION).getAverageMillis(),
+                connectExecutor.getStageStats(ConnectExecutor.Stage.CONNECTION).getAverageMillis()));
+
+        TokenBucket authLimiter = fleet.getAuthGuard().getLimiter();
+        sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.DISPLAY_BREAKER_LINE,
+                formatBreaker(sender, fleet.getAuthGuard().getBreaker()),
+                formatBreaker(sender, fleet.getConnectBreaker()),
+                authLimiter.getAvailableTokens(),
+                authLimiter.getCapacity()));
+    }
+
+    private String formatBreaker(CommandSender sender, CircuitBreaker breaker) {
+        CircuitBreaker.State state = breaker.getState();
+        return plugin.getLanguageManager().getMessage(sender,
+                MessageKeys.DISPLAY_BREAKER_STATE_PREFIX + state.getDisplayName(),
+                TimeUnit.MILLISECONDS.toSeconds(breaker.getRemainingOpenMillis()));
+    }
+
+    private void handleMetrics(CommandSender sender) {
+        LanguageManager lang = plugin.getLanguageManager();
+        BotFleet fleet = plugin.getBotFleet();
+        BotMetrics metrics = fleet.getMetrics();
+
+        sender.sendMessage(lang.getMessage(sender, MessageKeys.DISPLAY_METRICS_HEADER));
+        sendPacketMetrics(sender, MessageKeys.DISPLAY_METRICS_INBOUND_LINE, metrics.getInbound());
+        sendPacketMetrics(sender, MessageKeys.DISPLAY_METRICS_OUTBOUND_LINE, metrics.getOutbound());
+        WriteMetrics writes = metrics.getWrites();
+        sender.sendMessage(lang.getMessage(sender, MessageKeys.DISPLAY_METRICS_WRITES_LINE,
+                writes.getPackets(), writes.getCoalescedFlushes(), writes.getImmediateFlushes()));
+
+        long transitions = 0;
+        long rejected = 0;
+        long unhandled = 0;
+        Set<Class<?>> unhandledTypes = new HashSet<>();
+        for (MinecraftBot bot : fleet.getBots()) {
+            transitions += bot.getTransitionCount();
+            rejected += bot.getRejectedTransitionCount();
+            for (Map.Entry<Class<?>, Long> entry : bot.getPacketRegistry().getUnhandledCounts().entrySet()) {
+                unhandledTypes.add(entry.getKey());
+                unhandled += entry.getValue();
+            }
+        }
+        AuthMetrics auth = metrics.getAuth();
+        sender.sendMessage(lang.getMessage(sender, MessageKeys.DISPLAY_METRICS_AUTH_LINE,
+                auth.getHitRatePercent(),
+                auth.getCacheHits(),
+                auth.getRefreshes(),
+                auth.getFullLogins(),
+                auth.getFailures(),
+                auth.getLatency().getPercentileMicros(50.0) / 1000,
+                auth.getLatency().getPercentileMicros(99.0) / 1000));
+        for (HttpMetrics.HostStats host : AuthHttp.getMetrics().getStatsByCount()) {
+            LatencyHistogram latency = host.getLatency();
+            sender.sendMessage(lang.getMessage(sender, MessageKeys.DISPLAY_METRICS_HTTP_LINE,
+                    host.getHost(),
+                    host.getCount(),
+                    host.getErrorCount(),
+                    host.getConnectionCount(),
+                    latency.getPercentileMicros(50.0) / 1000,
+                    latency.getPercentileMicros(99.0) / 1000));
+        }
+
+        for (ServerEndpoint endpoint : fleet.getServerSelector().getCandidates()) {
+            long rtt = endpoint.getAverageRttMicros();
+            sender.sendMessage(lang.getMessage(sender, MessageKeys.DISPLAY_METRICS_SERVER_LINE,
+                    endpoint, rtt < 0 ? "-" : rtt, endpoint.getConsecutiveFailures()));
+        }
+
+        sender.sendMessage(lang.getMessage(sender, MessageKeys.DISPLAY_METRICS_TRANSITIONS_LINE, transitions, rejected));
+        sender.sendMessage(lang.getMessage(sender, MessageKeys.DISPLAY_METRICS_UNHANDLED_LINE, unhandled, unhandledTypes.size()));
+
+        AsyncLogAppender appender = BotLogger.getAppender();
+        if (appender != null) {
+            sender.sendMessage(lang.getMessage(sender, MessageKeys.DISPLAY_METRICS_LOG_LINE,
+                    appender.getQueuedCount(),
+                    appender.getCapacity(),
+                    appender.getDroppedVerboseCount(),
+                    appender.getDroppedOtherCount()));
+        }
+
+        CacheStats languageStats = lang.getCacheStats();
+        sender.sendMessage(lang.getMessage(sender, MessageKeys.DISPLAY_METRICS_LANGUAGE_LINE,
+                lang.getCachedLanguageCount(),
+                languageStats.hitCount(),
+                languageStats.missCount(),
+                languageStats.evictionCount()));
+    }
+
+    private void sendPacketMetrics(CommandSender sender, String sectionKey, PacketMetrics packetMetrics) {
+        List<PacketMetrics.PacketStats> stats = packetMetrics.getStatsByCount();
+        if (stats.isEmpty()) {
+            return;
+        }
+
+        LanguageManager lang = plugin.getLanguageManager();
+        sender.sendMessage(lang.getMessage(sender, sectionKey));
+        for (int i = 0; i < Math.min(stats.size(), BotConstants.METRICS_TOP_PACKETS); i++) {
+            PacketMetrics.PacketStats packet = stats.get(i);
+            LatencyHistogram latency = packet.getLatency();
+            sender.sendMessage(lang.getMessage(sender, MessageKeys.DISPLAY_METRICS_PACKET_LINE,
+                    packet.getName(),
+                    packet.getCount(),
+                    packet.getErrorCount(),
+                    latency.getPercentileMicros(50.0),
+                    latency.getPercentileMicros(99.0),
+                    latency.getMaxMicros()));
+        }
+    }
+
     private void handleReconnect(CommandSender sender, MinecraftBot bot) {
-        sender.sendMessage(plugin.getLanguageManager().getMessage(MessageKeys.BOT_RECONNECTING));
+        sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.BOT_RECONNECTING));
 
-        if (bot.isConnected()) {
+        if (bot.getState().isActive()) {
             bot.disconnect("");
         }
 
+        plugin.getConnectionManager().resetReconnect(bot);
         bot.connect().thenRun(() -> {
             if (bot.isConnected()) {
-                sender.sendMessage(plugin.getLanguageManager().getMessage(MessageKeys.BOT_CONNECTED));
+                sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.BOT_CONNECTED));
             }
         });
     }
 
     private void handleReload(CommandSender sender) {
         if (!sender.hasPermission(BotConstants.PERMISSION_RELOAD)) {
-            sender.sendMessage(plugin.getLanguageManager().getMessage(MessageKeys.COMMAND_BOT_NO_PERMISSION));
+            sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.COMMAND_BOT_NO_PERMISSION));
             return;
         }
 
+        CompletableFuture<Void> languagesReloaded;
         try {
-            plugin.getConfigManager().reload();
-            plugin.getLanguageManager().reloadLanguages();
-            sender.sendMessage(plugin.getLanguageManager().getMessage(MessageKeys.CONFIG_RELOADED));
+            languagesReloaded = plugin.reloadConfiguration(true);
         } catch (Exception e) {
-            sender.sendMessage(plugin.getLanguageManager().getMessage(MessageKeys.CONFIG_RELOAD_FAILED, e.getMessage()));
+            sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.CONFIG_RELOAD_FAILED, e.getMessage()));
+            return;
         }
+
+        languagesReloaded.whenComplete((ignored, error) -> {
+            if (error != null) {
+                sender.sendMessage(plugin.getLanguageManager().getMessage(sender,
+                        MessageKeys.CONFIG_RELOAD_FAILED, error.getMessage()));
+            } else {
+                sender.sendMessage(plugin.getLanguageManager().getMessage(sender, MessageKeys.CONFIG_RELOADED));
+            }
+        });
     }
 
     private String getStatusColor(BotState state) {
@@ -23,6 +23,9 @@
  */
 package com.mythicisland.mc.bot.commands;
 
+import com.mythicisland.mc.bot.Main;
+import com.mythicisland.mc.bot.constants.BotConstants;
+import lombok.RequiredArgsConstructor;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
@@ -32,10 +35,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+@RequiredArgsConstructor
 public class BotTabCompleter implements TabCompleter {
 
+    private final Main plugin;
+
     private static final List<String> SUB_COMMANDS = Arrays.asList(
-            "connect", "disconnect", "status", "reconnect", "reload"
+            "connect", "disconnect", "status", "metrics", "reconnect", "reload"
     );
 
     @Override
@@ -49,6 +55,16 @@ public class BotTabCompleter implements TabCompleter {
                     completions.add(subCommand);
                 }
             }
+        } else if (args.length == 2 && !args[0].equalsIgnoreCase("reload") && !args[0].equalsIgnoreCase("metrics")) {
+            String input = args[1].toLowerCase();
+            if (BotConstants.ALL_BOTS.startsWith(input)) {
+                completions.add(BotConstants.ALL_BOTS);
+            }
+            for (String botName : plugin.getBotFleet().getBotNames()) {
+                if (botName.toLowerCase().startsWith(input)) {
+                    completions.add(botName);
+                }
+            }
         }
 
         return completions;
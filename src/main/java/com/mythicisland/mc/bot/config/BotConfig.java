@@ -0,0 +1,167 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.config;
+
+import com.mythicisland.mc.bot.auth.BotAccount;
+import com.mythicisland.mc.bot.connection.Transport;
+import com.mythicisland.mc.bot.constants.BotConstants;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, typed view of {@code config.yml}. A snapshot is parsed and validated once per load and then
+ * published as a whole, so readers on any thread see plain fields instead of YAML path lookups.
+ */
+public record BotConfig(
+        Map<String, BotAccount> accounts,
+        List<String> servers,
+        Behavior behavior,
+        Advanced advanced,
+        Fleet fleet,
+        PluginSettings plugin
+) {
+
+    public record Behavior(
+            boolean autoConnectOnStartup,
+            boolean autoReconnect,
+            int reconnectDelaySeconds,
+            int maxReconnectAttempts,
+            int idleTimeoutMinutes
+    ) {
+    }
+
+    public record Advanced(
+            int keepAliveInterval,
+            int connectionTimeout,
+            int packetDelayMs,
+            int serverProbeInterval
+    ) {
+    }
+
+    public record Fleet(
+            int eventLoopThreads,
+            String transport,
+            int maxConcurrentConnects,
+            int authRequestsPerMinute,
+            int authBurst,
+            int breakerFailureThreshold,
+            int breakerOpenSeconds
+    ) {
+    }
+
+    public record PluginSettings(
+            String language,
+            boolean debugMode,
+            boolean logPackets,
+            boolean watchFiles,
+            Logging logging,
+            LanguageCache languageCache
+    ) {
+    }
+
+    public record Logging(
+            boolean async,
+            int bufferSize,
+            String overflowPolicy
+    ) {
+    }
+
+    public record LanguageCache(
+            int maxSize,
+            int expireAfterAccessMinutes
+    ) {
+    }
+
+    static BotConfig read(ConfigurationSection config) {
+        return new BotConfig(
+                readAccounts(config),
+                List.copyOf(config.getStringList("bot.servers")),
+                new Behavior(
+                        config.getBoolean("bot.behavior.auto-connect-on-startup"),
+                        config.getBoolean("bot.behavior.auto-reconnect"),
+                        config.getInt("bot.behavior.reconnect-delay-seconds"),
+                        config.getInt("bot.behavior.max-reconnect-attempts"),
+                        config.getInt("bot.behavior.idle-timeout-minutes")
+                ),
+                new Advanced(
+                        config.getInt("bot.advanced.keep-alive-interval"),
+                        config.getInt("bot.advanced.connection-timeout"),
+                        config.getInt("bot.advanced.packet-delay-ms"),
+                        config.getInt("bot.advanced.server-probe-interval", 15)
+                ),
+                new Fleet(
+                        config.getInt("bot.fleet.event-loop-threads", 0),
+                        config.getString("bot.fleet.transport", Transport.AUTO),
+                        config.getInt("bot.fleet.max-concurrent-connects", 4),
+                        config.getInt("bot.fleet.auth-requests-per-minute", 30),
+                        config.getInt("bot.fleet.auth-burst", 5),
+                        config.getInt("bot.fleet.breaker-failure-threshold", 5),
+                        config.getInt("bot.fleet.breaker-open-seconds", 60)
+                ),
+                new PluginSettings(
+                        config.getString("plugin.language", ""),
+                        config.getBoolean("plugin.debug-mode"),
+                        config.getBoolean("plugin.log-packets"),
+                        config.getBoolean("plugin.watch-files", true),
+                        new Logging(
+                                config.getBoolean("plugin.logging.async", true),
+                                config.getInt("plugin.logging.buffer-size", 8192),
+                                config.getString("plugin.logging.overflow-policy", "drop-debug-first")
+                        ),
+                        new LanguageCache(
+                                config.getInt("plugin.language-cache.max-size", 16),
+                                config.getInt("plugin.language-cache.expire-after-access-minutes", 30)
+                        )
+                )
+        );
+    }
+
+    private static Map<String, BotAccount> readAccounts(ConfigurationSection config) {
+        Map<String, BotAccount> accounts = new LinkedHashMap<>();
+        ConfigurationSection section = config.getConfigurationSection("bot.accounts");
+
+        if (section == null) {
+            accounts.put(BotConstants.DEFAULT_BOT_NAME, readAccount(config, BotConstants.DEFAULT_BOT_NAME, "bot.account"));
+        } else {
+            for (String name : section.getKeys(false)) {
+                accounts.put(name, readAccount(config, name, "bot.accounts." + name));
+            }
+        }
+        return Collections.unmodifiableMap(accounts);
+    }
+
+    private static BotAccount readAccount(ConfigurationSection config, String name, String path) {
+        return new BotAccount(
+                name,
+                config.getString(path + ".type", ""),
+                config.getString(path + ".email", ""),
+                config.getString(path + ".username", ""),
+                config.getString(path + ".password", "")
+        );
+    }
+}
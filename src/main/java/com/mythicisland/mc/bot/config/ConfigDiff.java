@@ -0,0 +1,65 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.config;
+
+import java.util.Objects;
+
+/**
+ * What changed between two {@link BotConfig} snapshots, grouped by how the change has to be applied.
+ * Settings that are read from the snapshot on every use (reconnect backoff, the connect deadline,
+ * packet delay) need no entry here.
+ */
+public record ConfigDiff(
+        boolean keepAliveChanged,
+        boolean serverProbeChanged,
+        boolean loggingChanged,
+        boolean languageChanged,
+        boolean watchFilesChanged,
+        boolean restartRequired
+) {
+
+    public static ConfigDiff between(BotConfig previous, BotConfig current) {
+        BotConfig.PluginSettings before = previous.plugin();
+        BotConfig.PluginSettings after = current.plugin();
+
+        return new ConfigDiff(
+                previous.advanced().keepAliveInterval() != current.advanced().keepAliveInterval(),
+                previous.advanced().serverProbeInterval() != current.advanced().serverProbeInterval()
+                        || previous.advanced().connectionTimeout() != current.advanced().connectionTimeout(),
+                before.debugMode() != after.debugMode()
+                        || before.logPackets() != after.logPackets()
+                        || !before.logging().equals(after.logging()),
+                !Objects.equals(before.language(), after.language()),
+                before.watchFiles() != after.watchFiles(),
+                !previous.accounts().equals(current.accounts())
+                        || !previous.servers().equals(current.servers())
+                        || !previous.fleet().equals(current.fleet())
+                        || !before.languageCache().equals(after.languageCache())
+        );
+    }
+
+    public boolean isEmpty() {
+        return !keepAliveChanged && !serverProbeChanged && !loggingChanged && !languageChanged && !watchFilesChanged && !restartRequired;
+    }
+}
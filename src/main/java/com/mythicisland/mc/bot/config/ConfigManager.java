@@ -24,9 +24,15 @@
 package com.mythicisland.mc.bot.config;
 
 import com.mythicisland.mc.bot.Main;
+import com.mythicisland.mc.bot.auth.BotAccount;
+import com.mythicisland.mc.bot.connection.ServerEndpoint;
+import com.mythicisland.mc.bot.connection.Transport;
+import com.mythicisland.mc.bot.constants.BotConstants;
 import com.mythicisland.mc.bot.exceptions.ConfigurationException;
 import com.mythicisland.mc.bot.utils.BotLogger;
+import com.mythicisland.mc.bot.utils.ValidationUtils;
 import lombok.Getter;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 
@@ -34,13 +40,17 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class ConfigManager {
 
     private final Main plugin;
     @Getter
-    private FileConfiguration config;
+    private volatile FileConfiguration config;
+    @Getter
+    private volatile BotConfig botConfig;
     private final File configFile;
 
     public ConfigManager(Main plugin) {
@@ -59,11 +69,20 @@ public class ConfigManager {
                 createDefaultConfig();
             }
 
-            config = YamlConfiguration.loadConfiguration(configFile);
-            validateConfig();
+            FileConfiguration loaded = YamlConfiguration.loadConfiguration(configFile);
+            List<String> errors = validateConfig(loaded);
+            if (!errors.isEmpty()) {
+                throw new ConfigurationException(errors);
+            }
+
+            BotConfig parsed = BotConfig.read(loaded);
+            this.config = loaded;
+            this.botConfig = parsed;
 
             BotLogger.info("Configuration loaded: " + configFile.getName());
 
+        } catch (ConfigurationException e) {
+            throw e;
         } catch (Exception e) {
             throw new ConfigurationException("Error loading configuration: " + e.getMessage(), e);
         }
@@ -101,10 +120,26 @@ public class ConfigManager {
         config.set("bot.advanced.keep-alive-interval", 20);
         config.set("bot.advanced.connection-timeout", 10);
         config.set("bot.advanced.packet-delay-ms", 50);
+        config.set("bot.advanced.server-probe-interval", 15);
+        config.set("bot.servers", List.of());
+
+        config.set("bot.fleet.event-loop-threads", 0);
+        config.set("bot.fleet.transport", Transport.AUTO);
+        config.set("bot.fleet.max-concurrent-connects", 4);
+        config.set("bot.fleet.auth-requests-per-minute", 30);
+        config.set("bot.fleet.auth-burst", 5);
+        config.set("bot.fleet.breaker-failure-threshold", 5);
+        config.set("bot.fleet.breaker-open-seconds", 60);
 
         config.set("plugin.language", "en-us");
         config.set("plugin.debug-mode", false);
         config.set("plugin.log-packets", false);
+        config.set("plugin.watch-files", true);
+        config.set("plugin.logging.async", true);
+        config.set("plugin.logging.buffer-size", 8192);
+        config.set("plugin.logging.overflow-policy", "drop-debug-first");
+        config.set("plugin.language-cache.max-size", 16);
+        config.set("plugin.language-cache.expire-after-access-minutes", 30);
 
         config.setComments("bot.account", List.of(
                 "Minecraft account configuration",
@@ -117,63 +152,128 @@ public class ConfigManager {
                 "Bot behavior configuration"
         ));
 
+        config.setComments("bot.fleet", List.of(
+                "Shared settings for all bots",
+                "Additional bots can be added under 'bot.accounts.<name>' with the same keys as 'bot.account'",
+                "event-loop-threads: 0 uses the Netty default",
+                "transport: " + Transport.getConfigNames() + "; native transports fall back to nio when unavailable",
+                "auth-requests-per-minute and auth-burst limit logins and token refreshes across all bots",
+                "After breaker-failure-threshold failures in a row, auth and connects pause for breaker-open-seconds"
+        ));
+
         config.setComments("plugin", List.of(
                 "Plugin-specific settings"
         ));
     }
 
-    private void validateConfig() throws ConfigurationException {
-        String accountType = getString("bot.account.type");
+    /**
+     * Collects every problem in {@code config} instead of stopping at the first one, so a single reload
+     * reports everything that needs fixing.
+     */
+    private List<String> validateConfig(FileConfiguration config) {
+        List<String> errors = new ArrayList<>();
+
+        ConfigurationSection accounts = config.getConfigurationSection("bot.accounts");
+        if (accounts == null) {
+            validateAccount(config, "bot.account", errors);
+        } else {
+            for (String name : accounts.getKeys(false)) {
+                validateAccount(config, "bot.accounts." + name, errors);
+            }
+        }
+
+        validatePositiveInt(config, "bot.behavior.reconnect-delay-seconds", 1, 3600, errors);
+        validatePositiveInt(config, "bot.behavior.max-reconnect-attempts", 1, 100, errors);
+        validatePositiveInt(config, "bot.advanced.keep-alive-interval", 5, 300, errors);
+        validatePositiveInt(config, "bot.advanced.connection-timeout", 1, 60, errors);
+        validatePositiveInt(config, "bot.advanced.packet-delay-ms", 0, 1000, errors);
+        validateOptionalInt(config, "bot.advanced.server-probe-interval", 0, 3600, errors);
+        validateOptionalInt(config, "bot.fleet.event-loop-threads", 0, 64, errors);
+        validateOptionalInt(config, "bot.fleet.max-concurrent-connects", 1, 256, errors);
+        String transport = config.getString("bot.fleet.transport", Transport.AUTO);
+        if (!Transport.isValidConfigName(transport)) {
+            errors.add("Invalid transport in 'bot.fleet.transport': " + transport
+                    + " (allowed: " + Transport.getConfigNames() + ")");
+        }
+        validateOptionalInt(config, "bot.fleet.auth-requests-per-minute", 1, 600, errors);
+        validateOptionalInt(config, "bot.fleet.auth-burst", 1, 100, errors);
+        validateOptionalInt(config, "bot.fleet.breaker-failure-threshold", 1, 100, errors);
+        validateOptionalInt(config, "bot.fleet.breaker-open-seconds", 1, 3600, errors);
+        validateOptionalInt(config, "plugin.logging.buffer-size", 64, 1_000_000, errors);
+        validateOptionalInt(config, "plugin.language-cache.max-size", 1, 1024, errors);
+        validateOptionalInt(config, "plugin.language-cache.expire-after-access-minutes", 1, 1440, errors);
+        for (String server : config.getStringList("bot.servers")) {
+            validateServer(server, errors);
+        }
+        String language = config.getString("plugin.language", "");
+        if (!language.matches("^[a-z]{2}-[a-z]{2}$")) {
+            BotLogger.warning("Invalid language format: " + language + " (expected: e.g. 'en-us')");
+        }
+
+        return errors;
+    }
+
+    private void validateAccount(FileConfiguration config, String path, List<String> errors) {
+        String accountType = config.getString(path + ".type", "");
         if (!accountType.equals("microsoft") && !accountType.equals("legacy")) {
-            throw new ConfigurationException("Invalid account type: " + accountType + " (allowed: microsoft, legacy)");
+            errors.add("Invalid account type at '" + path + "': " + accountType + " (allowed: microsoft, legacy)");
+            return;
         }
 
         if ("microsoft".equals(accountType)) {
-            String email = getString("bot.account.email");
-            String password = getString("bot.account.password");
+            String email = config.getString(path + ".email", "");
+            String password = config.getString(path + ".password", "");
 
             if (email.equals("your-email@example.com") || password.equals("your-password")) {
-                throw new ConfigurationException("Please configure your real Microsoft account credentials in config.yml!");
-            }
-
-            if (!email.contains("@")) {
-                throw new ConfigurationException("Invalid email address: " + email);
+                errors.add("Please configure your real Microsoft account credentials at '" + path + "' in config.yml!");
+            } else if (!email.contains("@")) {
+                errors.add("Invalid email address at '" + path + "': " + email);
             }
 
-        } else if ("legacy".equals(accountType)) {
-            String username = getString("bot.account.username");
-            String password = getString("bot.account.password");
+        } else {
+            String username = config.getString(path + ".username", "");
+            String password = config.getString(path + ".password", "");
 
             if (username.equals("MinecraftUsername") || password.equals("your-password")) {
-                throw new ConfigurationException("Please configure your real Legacy account credentials in config.yml!");
+                errors.add("Please configure your real Legacy account credentials at '" + path + "' in config.yml!");
             }
         }
+    }
 
-        validatePositiveInt("bot.behavior.reconnect-delay-seconds", 1, 3600);
-        validatePositiveInt("bot.behavior.max-reconnect-attempts", 1, 100);
-        validatePositiveInt("bot.advanced.keep-alive-interval", 5, 300);
-        validatePositiveInt("bot.advanced.connection-timeout", 1, 60);
-        String language = getString("plugin.language");
-        if (!language.matches("^[a-z]{2}-[a-z]{2}$")) {
-            BotLogger.warning("Invalid language format: " + language + " (expected: e.g. 'en-us')");
+    private void validateServer(String server, List<String> errors) {
+        try {
+            ServerEndpoint endpoint = ServerEndpoint.parse(server, BotConstants.DEFAULT_MINECRAFT_PORT);
+            if (!ValidationUtils.isValidHost(endpoint.getHost()) || !ValidationUtils.isValidPort(endpoint.getPort())) {
+                errors.add("Invalid server address in 'bot.servers': " + server);
+            }
+        } catch (ConfigurationException e) {
+            errors.add(e.getMessage() + " ('bot.servers')");
         }
     }
 
-
-    private void validatePositiveInt(String path, int min, int max) throws ConfigurationException {
-        int value = getInt(path);
+    private void validatePositiveInt(FileConfiguration config, String path, int min, int max, List<String> errors) {
+        int value = config.getInt(path);
         if (value < min || value > max) {
-            throw new ConfigurationException(String.format(
+            errors.add(String.format(
                     "Value for '%s' must be between %d and %d, but is: %d",
                     path, min, max, value
             ));
         }
     }
 
+    private void validateOptionalInt(FileConfiguration config, String path, int min, int max, List<String> errors) {
+        if (config.contains(path)) {
+            validatePositiveInt(config, path, min, max, errors);
+        }
+    }
+
     public void reload() {
         try {
             loadConfig();
             BotLogger.info("Configuration reloaded");
+        } catch (ConfigurationException e) {
+            e.getErrors().forEach(error -> BotLogger.error("Error reloading configuration: " + error));
+            throw e;
         } catch (Exception e) {
             BotLogger.error("Error reloading configuration: " + e.getMessage());
             throw new ConfigurationException("Reload failed", e);
@@ -237,47 +337,111 @@ public class ConfigManager {
         return getString("bot.account.username");
     }
 
+    public Map<String, BotAccount> getAccounts() {
+        return botConfig.accounts();
+    }
+
     public boolean shouldAutoConnectOnStartup() {
-        return getBoolean("bot.behavior.auto-connect-on-startup");
+        return botConfig.behavior().autoConnectOnStartup();
     }
 
     public boolean shouldAutoReconnect() {
-        return getBoolean("bot.behavior.auto-reconnect");
+        return botConfig.behavior().autoReconnect();
     }
 
     public int getReconnectDelaySeconds() {
-        return getInt("bot.behavior.reconnect-delay-seconds");
+        return botConfig.behavior().reconnectDelaySeconds();
     }
 
     public int getMaxReconnectAttempts() {
-        return getInt("bot.behavior.max-reconnect-attempts");
+        return botConfig.behavior().maxReconnectAttempts();
     }
 
     public int getIdleTimeoutMinutes() {
-        return getInt("bot.behavior.idle-timeout-minutes");
+        return botConfig.behavior().idleTimeoutMinutes();
     }
 
     public int getKeepAliveInterval() {
-        return getInt("bot.advanced.keep-alive-interval");
+        return botConfig.advanced().keepAliveInterval();
     }
 
     public int getConnectionTimeout() {
-        return getInt("bot.advanced.connection-timeout");
+        return botConfig.advanced().connectionTimeout();
     }
 
     public int getPacketDelayMs() {
-        return getInt("bot.advanced.packet-delay-ms");
+        return botConfig.advanced().packetDelayMs();
+    }
+
+    public int getServerProbeInterval() {
+        return botConfig.advanced().serverProbeInterval();
+    }
+
+    public List<String> getServers() {
+        return botConfig.servers();
+    }
+
+    public int getEventLoopThreads() {
+        return botConfig.fleet().eventLoopThreads();
+    }
+
+    public String getTransport() {
+        return botConfig.fleet().transport();
+    }
+
+    public int getMaxConcurrentConnects() {
+        return botConfig.fleet().maxConcurrentConnects();
+    }
+
+    public int getAuthRequestsPerMinute() {
+        return botConfig.fleet().authRequestsPerMinute();
+    }
+
+    public int getAuthBurst() {
+        return botConfig.fleet().authBurst();
+    }
+
+    public int getBreakerFailureThreshold() {
+        return botConfig.fleet().breakerFailureThreshold();
+    }
+
+    public int getBreakerOpenSeconds() {
+        return botConfig.fleet().breakerOpenSeconds();
     }
 
     public String getLanguage() {
-        return getString("plugin.language");
+        return botConfig.plugin().language();
+    }
+
+    public int getLanguageCacheSize() {
+        return botConfig.plugin().languageCache().maxSize();
+    }
+
+    public int getLanguageCacheExpiryMinutes() {
+        return botConfig.plugin().languageCache().expireAfterAccessMinutes();
     }
 
     public boolean isDebugMode() {
-        return getBoolean("plugin.debug-mode");
+        return botConfig.plugin().debugMode();
     }
 
     public boolean shouldLogPackets() {
-        return getBoolean("plugin.log-packets");
+        return botConfig.plugin().logPackets();
+    }
+
+    public boolean shouldWatchFiles() {
+        return botConfig.plugin().watchFiles();
+    }
+
+    public boolean isAsyncLogging() {
+        return botConfig.plugin().logging().async();
+    }
+
+    public int getLogBufferSize() {
+        return botConfig.plugin().logging().bufferSize();
+    }
+
+    public String getLogOverflowPolicy() {
+        return botConfig.plugin().logging().overflowPolicy();
     }
 }
\ No newline at end of file
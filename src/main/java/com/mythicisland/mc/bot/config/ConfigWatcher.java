@@ -0,0 +1,190 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.config;
+
+import com.mythicisland.mc.bot.Main;
+import com.mythicisland.mc.bot.constants.BotConstants;
+import com.mythicisland.mc.bot.exceptions.ConfigurationException;
+import com.mythicisland.mc.bot.utils.BotLogger;
+import org.bukkit.Bukkit;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches {@code config.yml} and the {@code lang} folder and hands changes to the main thread. A {@code lang}
+ * folder created after start is picked up from its creation event in the data folder.
+ * Editors usually produce several events per save, so events are collected until the folder has been
+ * quiet for {@link #DEBOUNCE_MS} before anything is reloaded.
+ */
+public class ConfigWatcher {
+
+    private static final long DEBOUNCE_MS = 500;
+
+    private final Main plugin;
+    private final Path dataFolder;
+    private final Path langDir;
+
+    private WatchService watchService;
+    private Thread watchThread;
+
+    public ConfigWatcher(Main plugin) {
+        this.plugin = plugin;
+        this.dataFolder = plugin.getDataFolder().toPath().toAbsolutePath();
+        this.langDir = dataFolder.resolve(BotConstants.LANG_DIRECTORY);
+    }
+
+    public synchronized void start() {
+        if (watchThread != null) {
+            return;
+        }
+
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            dataFolder.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            if (Files.isDirectory(langDir)) {
+                registerLangDir(watchService);
+            }
+
+            watchThread = Thread.ofPlatform().daemon().name("SimpleBot-ConfigWatcher").start(this::watchLoop);
+            BotLogger.debug("Watching configuration files for changes");
+
+        } catch (IOException e) {
+            BotLogger.warning("Could not watch configuration files: " + e.getMessage());
+            closeWatchService();
+        }
+    }
+
+    public synchronized void stop() {
+        if (watchThread == null) {
+            return;
+        }
+
+        closeWatchService();
+        watchThread.interrupt();
+        watchThread = null;
+    }
+
+    private void registerLangDir(WatchService service) throws IOException {
+        langDir.register(service, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+    }
+
+    private void closeWatchService() {
+        if (watchService == null) {
+            return;
+        }
+
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            BotLogger.debug("Error closing config watch service: " + e.getMessage());
+        }
+        watchService = null;
+    }
+
+    private void watchLoop() {
+        WatchService service = watchService;
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = service.take();
+                boolean configChanged = false;
+                boolean languagesChanged = false;
+
+                while (key != null) {
+                    Path directory = (Path) key.watchable();
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            configChanged = true;
+                            languagesChanged = true;
+                            continue;
+                        }
+
+                        String fileName = event.context().toString();
+                        if (directory.equals(dataFolder) && fileName.equals(BotConstants.CONFIG_FILE)) {
+                            configChanged = true;
+                        } else if (directory.equals(dataFolder) && fileName.equals(BotConstants.LANG_DIRECTORY)
+                                && event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                            // the folder did not exist at start; files may already be in it by now
+                            languagesChanged |= watchCreatedLangDir(service);
+                        } else if (directory.equals(langDir) && fileName.endsWith(".json")) {
+                            languagesChanged = true;
+                        }
+                    }
+                    key.reset();
+                    key = service.poll(DEBOUNCE_MS, TimeUnit.MILLISECONDS);
+                }
+
+                if (configChanged || languagesChanged) {
+                    scheduleReload(configChanged, languagesChanged);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+            // stop() closed the service
+        }
+    }
+
+    private boolean watchCreatedLangDir(WatchService service) {
+        if (!Files.isDirectory(langDir)) {
+            return false;
+        }
+
+        try {
+            registerLangDir(service);
+            BotLogger.debug("Watching newly created language folder");
+            return true;
+        } catch (IOException e) {
+            BotLogger.warning("Could not watch language folder: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void scheduleReload(boolean configChanged, boolean languagesChanged) {
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            if (configChanged) {
+                BotLogger.info("config.yml changed, applying new configuration");
+                try {
+                    plugin.reloadConfiguration(languagesChanged);
+                } catch (ConfigurationException e) {
+                    BotLogger.warning("Keeping the previous configuration until config.yml is fixed");
+                }
+            } else {
+                BotLogger.info("Language files changed, reloading languages");
+                plugin.getLanguageManager().reloadLanguages();
+            }
+        });
+    }
+}
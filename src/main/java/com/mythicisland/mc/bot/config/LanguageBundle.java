@@ -0,0 +1,74 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.config;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An immutable, fully compiled language. Bundles are built completely before they are published,
+ * so readers on any thread either see the previous bundle or the new one, never a partial load.
+ */
+public final class LanguageBundle {
+
+    @Getter
+    private final String language;
+    private final Map<String, MessageTemplate> messages;
+
+    private LanguageBundle(String language, Map<String, MessageTemplate> messages) {
+        this.language = language;
+        this.messages = Map.copyOf(messages);
+    }
+
+    public static LanguageBundle compile(String language, JsonObject root) {
+        Map<String, MessageTemplate> compiled = new HashMap<>();
+        compileMessages(root, "", compiled);
+        return new LanguageBundle(language, compiled);
+    }
+
+    private static void compileMessages(JsonObject json, String prefix, Map<String, MessageTemplate> compiled) {
+        for (Map.Entry<String, JsonElement> entry : json.entrySet()) {
+            String key = prefix + entry.getKey();
+            JsonElement value = entry.getValue();
+
+            if (value.isJsonObject()) {
+                compileMessages(value.getAsJsonObject(), key + ".", compiled);
+            } else if (value.isJsonPrimitive()) {
+                compiled.put(key, MessageTemplate.compile(value.getAsString()));
+            }
+        }
+    }
+
+    public MessageTemplate get(String key) {
+        return messages.get(key);
+    }
+
+    public int size() {
+        return messages.size();
+    }
+}
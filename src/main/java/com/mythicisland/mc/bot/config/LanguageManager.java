@@ -23,55 +23,85 @@
  */
 package com.mythicisland.mc.bot.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.mythicisland.mc.bot.Main;
 import com.mythicisland.mc.bot.utils.BotLogger;
-import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.util.HashMap;
-import java.util.Map;
-
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves localized messages. Languages are published as immutable {@link LanguageBundle} snapshots,
+ * so {@link #getMessage} never locks and is safe to call from any thread, including during a reload.
+ * Player locales are loaded lazily on first use and kept in a bounded cache; the configured language
+ * is always resident and is used whenever a locale has no file of its own.
+ */
 public class LanguageManager {
 
+    private static final Object[] NO_REPLACEMENTS = new Object[0];
+    private static final String FALLBACK_LANGUAGE = "en-us";
+    private static final Pattern LANGUAGE_PATTERN = Pattern.compile("^[a-z]{2}-[a-z]{2}$");
+    private static final int DEFAULT_CACHE_SIZE = 16;
+    private static final int DEFAULT_CACHE_EXPIRY_MINUTES = 30;
+
     private final Main plugin;
     private final File langDir;
     private final Gson gson;
 
-    @Getter
-    private String currentLanguage;
-    private JsonObject messages;
-    private final Map<String, JsonObject> loadedLanguages;
+    private final LoadingCache<String, LanguageBundle> localeBundles;
+    private volatile LanguageBundle current;
 
     public LanguageManager(Main plugin) {
+        this(plugin, new File(plugin.getDataFolder(), "lang"), plugin.getConfigManager().getLanguage(),
+                plugin.getConfigManager().getLanguageCacheSize(),
+                plugin.getConfigManager().getLanguageCacheExpiryMinutes());
+    }
+
+    LanguageManager(File langDir, String language) {
+        this(null, langDir, language, DEFAULT_CACHE_SIZE, DEFAULT_CACHE_EXPIRY_MINUTES);
+    }
+
+    private LanguageManager(Main plugin, File langDir, String language, int cacheSize, int cacheExpiryMinutes) {
         this.plugin = plugin;
-        this.langDir = new File(plugin.getDataFolder(), "lang");
+        this.langDir = langDir;
         this.gson = new GsonBuilder().setPrettyPrinting().create();
-        this.loadedLanguages = new HashMap<>();
+        this.localeBundles = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterAccess(Duration.ofMinutes(cacheExpiryMinutes))
+                .recordStats()
+                .build(this::loadLocaleBundle);
 
-        initializeLanguageSystem();
+        initializeLanguageSystem(language);
     }
 
-    private void initializeLanguageSystem() {
+    private void initializeLanguageSystem(String language) {
         try {
             if (!langDir.exists()) {
                 langDir.mkdirs();
             }
 
             createDefaultLanguageFiles();
-            String configLanguage = plugin.getConfigManager().getLanguage();
-            loadLanguage(configLanguage);
+            loadLanguage(language);
 
-            BotLogger.info("Language system initialized with: " + currentLanguage);
+            BotLogger.info("Language system initialized with: " + getCurrentLanguage());
 
         } catch (Exception e) {
             BotLogger.error("Error initializing language system: " + e.getMessage());
-            createFallbackMessages();
+            publish(createFallbackBundle());
         }
     }
 
@@ -94,62 +124,136 @@ public class LanguageManager {
         }
     }
 
+    public String getCurrentLanguage() {
+        return current.getLanguage();
+    }
+
     public void loadLanguage(String language) {
+        publish(readBundle(language));
+    }
+
+    public CacheStats getCacheStats() {
+        return localeBundles.stats();
+    }
+
+    public long getCachedLanguageCount() {
+        return localeBundles.estimatedSize();
+    }
+
+    /**
+     * Re-reads the configured language on a background thread and swaps it in once it is fully compiled.
+     * Until then readers keep using the previous snapshot.
+     */
+    public CompletableFuture<Void> reloadLanguages() {
+        String configLanguage = plugin.getConfigManager().getLanguage();
+
+        return CompletableFuture.supplyAsync(() -> readBundle(configLanguage),
+                        task -> Bukkit.getScheduler().runTaskAsynchronously(plugin, task))
+                .thenAccept(bundle -> {
+                    publish(bundle);
+                    BotLogger.info("All languages reloaded");
+                });
+    }
+
+    private void publish(LanguageBundle bundle) {
+        this.current = bundle;
+        localeBundles.invalidateAll();
+    }
+
+    private LanguageBundle resolveBundle(CommandSender sender) {
+        LanguageBundle defaultBundle = current;
+        if (!(sender instanceof Player player)) {
+            return defaultBundle;
+        }
+
+        String language = player.locale().toLanguageTag().toLowerCase(Locale.ROOT);
+        if (language.equals(defaultBundle.getLanguage()) || !LANGUAGE_PATTERN.matcher(language).matches()) {
+            return defaultBundle;
+        }
+
+        return localeBundles.get(language);
+    }
+
+    /**
+     * Cache loader for player locales. Locales without a language file resolve to the configured
+     * language, so a miss is only paid once per locale until the entry is evicted.
+     */
+    private LanguageBundle loadLocaleBundle(String language) {
+        File langFile = new File(langDir, language + ".json");
+        if (!langFile.exists()) {
+            return current;
+        }
+
         try {
-            if (loadedLanguages.containsKey(language)) {
-                this.messages = loadedLanguages.get(language);
-                this.currentLanguage = language;
-                return;
-            }
+            String json = Files.readString(langFile.toPath(), StandardCharsets.UTF_8);
+            BotLogger.debug("Locale loaded: " + language);
+            return LanguageBundle.compile(language, JsonParser.parseString(json).getAsJsonObject());
+        } catch (Exception e) {
+            BotLogger.error("Error loading locale " + language + ": " + e.getMessage());
+            return current;
+        }
+    }
 
+    private LanguageBundle readBundle(String language) {
+        try {
             File langFile = new File(langDir, language + ".json");
             if (!langFile.exists()) {
                 BotLogger.warning("Language file not found: " + language + ".json, using en-us");
-                language = "en-us";
+                language = FALLBACK_LANGUAGE;
                 langFile = new File(langDir, language + ".json");
 
                 if (!langFile.exists()) {
                     BotLogger.error("en-us.json also not found! Creating fallback...");
-                    createFallbackMessages();
-                    return;
+                    return createFallbackBundle();
                 }
             }
 
             String json = Files.readString(langFile.toPath(), StandardCharsets.UTF_8);
-            JsonObject loadedMessages = JsonParser.parseString(json).getAsJsonObject();
-
-            loadedLanguages.put(language, loadedMessages);
-            this.messages = loadedMessages;
-            this.currentLanguage = language;
+            LanguageBundle bundle = LanguageBundle.compile(language, JsonParser.parseString(json).getAsJsonObject());
 
             BotLogger.info("Language loaded: " + language);
+            return bundle;
 
         } catch (Exception e) {
             BotLogger.error("Error loading language " + language + ": " + e.getMessage());
-            createFallbackMessages();
+            return createFallbackBundle();
         }
     }
 
-    private void createFallbackMessages() {
-        this.messages = createEnglishMessages();
-        this.currentLanguage = "en-us";
+    private LanguageBundle createFallbackBundle() {
         BotLogger.warning("Using fallback messages (English)");
+        return LanguageBundle.compile(FALLBACK_LANGUAGE, createEnglishMessages());
     }
 
     public String getMessage(String key) {
-        return getMessage(key, new Object[0]);
+        return getMessage(key, NO_REPLACEMENTS);
     }
 
     public String getMessage(String key, Object... replacements) {
+        return format(current, key, replacements);
+    }
+
+    public String getMessage(CommandSender sender, String key) {
+        return getMessage(sender, key, NO_REPLACEMENTS);
+    }
+
+    public String getMessage(CommandSender sender, String key, Object... replacements) {
+        return format(resolveBundle(sender), key, replacements);
+    }
+
+    private String format(LanguageBundle bundle, String key, Object[] replacements) {
         try {
-            String message = getNestedValue(messages, key);
+            MessageTemplate message = bundle.get(key);
+            if (message == null && bundle != current) {
+                message = current.get(key);
+            }
 
             if (message == null) {
                 BotLogger.warning("Message not found: " + key);
                 return "§c[Missing: " + key + "]";
             }
 
-            return formatMessage(message, replacements);
+            return message.format(replacements);
 
         } catch (Exception e) {
             BotLogger.error("Error retrieving message " + key + ": " + e.getMessage());
@@ -157,43 +261,6 @@ public class LanguageManager {
         }
     }
 
-    private String getNestedValue(JsonObject json, String key) {
-        String[] parts = key.split("\\.");
-        JsonObject current = json;
-
-        for (int i = 0; i < parts.length - 1; i++) {
-            if (!current.has(parts[i]) || !current.get(parts[i]).isJsonObject()) {
-                return null;
-            }
-            current = current.getAsJsonObject(parts[i]);
-        }
-
-        String lastKey = parts[parts.length - 1];
-        if (!current.has(lastKey) || !current.get(lastKey).isJsonPrimitive()) {
-            return null;
-        }
-
-        return current.get(lastKey).getAsString();
-    }
-
-    private String formatMessage(String message, Object... replacements) {
-        String formatted = message;
-        for (int i = 0; i < replacements.length; i++) {
-            formatted = formatted.replace("{" + i + "}", String.valueOf(replacements[i]));
-        }
-
-        formatted = formatted.replace("&", "§");
-
-        return formatted;
-    }
-
-    public void reloadLanguages() {
-        loadedLanguages.clear();
-        String configLanguage = plugin.getConfigManager().getLanguage();
-        loadLanguage(configLanguage);
-        BotLogger.info("Alle Sprachen neu geladen");
-    }
-
     private JsonObject createEnglishMessages() {
         JsonObject root = new JsonObject();
 
@@ -204,6 +271,7 @@ public class LanguageManager {
         bot.addProperty("already_connected", "&cBot is already connected!");
         bot.addProperty("not_connected", "&cBot is not connected!");
         bot.addProperty("reconnecting", "&eReconnecting bot...");
+        bot.addProperty("not_found", "&cUnknown bot: &7{0}");
 
         JsonObject status = new JsonObject();
         status.addProperty("online", "&aOnline");
@@ -224,7 +292,7 @@ public class LanguageManager {
         JsonObject commands = new JsonObject();
         JsonObject botCmd = new JsonObject();
         botCmd.addProperty("description", "Bot management commands");
-        botCmd.addProperty("usage", "&cUsage: &7/bot <connect|disconnect|status|reconnect|reload>");
+        botCmd.addProperty("usage", "&cUsage: &7/bot <connect|disconnect|status|metrics|reconnect|reload> [bot|all]");
         botCmd.addProperty("unknown_subcommand", "&cUnknown subcommand: &7{0}");
         botCmd.addProperty("no_permission", "&cYou don't have permission to use this command!");
         commands.add("bot", botCmd);
@@ -238,11 +306,33 @@ public class LanguageManager {
 
         JsonObject display = new JsonObject();
         display.addProperty("status_header", "&7=== &bBot Status &7===");
+        display.addProperty("name_line", "&7Bot: &b{0}");
         display.addProperty("status_line", "&7Status: {0}");
         display.addProperty("server_line", "&7Server: &b{0}");
         display.addProperty("account_line", "&7Account: &a{0}");
         display.addProperty("uptime_line", "&7Uptime: &e{0}");
+        display.addProperty("keepalive_line", "&7Keep-alive: every &e{0}ms &7(jitter &e{1}ms&7, p99 &e{2}ms&7), response &e{3}µs &7(p99 &e{4}µs&7), stalls &e{5}");
         display.addProperty("last_error_line", "&7Last Error: &c{0}");
+        display.addProperty("fleet_line", "&7Fleet: &e{0}&7/&e{1} &7online, &e{2} &7reconnect(s) pending");
+        display.addProperty("fleet_reconnect_line", "&7Next fleet reconnect: &e{0} &7in &e{1}s &7(attempt {2})");
+        display.addProperty("pipeline_line", "&7Connect pipeline: &e{0} &7queued, &e{1}&7/&e{2} &7in flight, auth &e{3}ms&7, connect &e{4}ms");
+        display.addProperty("breaker_line", "&7Circuit breakers: auth {0}&7, connect {1}&7; auth rate limit &e{2}&7/&e{3} &7free");
+        display.addProperty("breaker_closed", "&aclosed");
+        display.addProperty("breaker_open", "&copen &7({0}s)");
+        display.addProperty("breaker_half_open", "&ehalf-open");
+        display.addProperty("reconnect_line", "&7Next reconnect: &ein {0}s &7(attempt {1})");
+        display.addProperty("metrics_header", "&7=== &bBot Metrics &7===");
+        display.addProperty("metrics_inbound_line", "&7Inbound:");
+        display.addProperty("metrics_outbound_line", "&7Outbound:");
+        display.addProperty("metrics_packet_line", "&7 {0}: &e{1} &7({2} err) p50 &e{3}µs &7p99 &e{4}µs &7max &e{5}µs");
+        display.addProperty("metrics_writes_line", "&7Outbound writes: &e{0} &7packets in &e{1} &7batched + &e{2} &7immediate flushes");
+        display.addProperty("metrics_unhandled_line", "&7Unhandled packets: &e{0} &7in &e{1} &7types");
+        display.addProperty("metrics_transitions_line", "&7State transitions: &e{0} &7(rejected &e{1}&7)");
+        display.addProperty("metrics_log_line", "&7Log buffer: &e{0}&7/&e{1}&7, dropped &e{2} &7debug, &e{3} &7other");
+        display.addProperty("metrics_auth_line", "&7Auth: &e{0}% &7without password (&e{1} &7cached, &e{2} &7refreshed, &e{3} &7logins, &e{4} &7failed) p50 &e{5}ms &7p99 &e{6}ms");
+        display.addProperty("metrics_http_line", "&7 {0}: &e{1} &7requests (&e{2} &7err, &e{3} &7new connections) p50 &e{4}ms &7p99 &e{5}ms");
+        display.addProperty("metrics_server_line", "&7Server &b{0}&7: rtt &e{1}µs&7, failed in a row &e{2}");
+        display.addProperty("metrics_language_line", "&7Language cache: &e{0} &7locales, &e{1} &7hits, &e{2} &7misses, &e{3} &7evicted");
         root.add("display", display);
 
         return root;
@@ -257,6 +347,7 @@ public class LanguageManager {
         bot.addProperty("already_connected", "&cBot ist bereits verbunden!");
         bot.addProperty("not_connected", "&cBot ist nicht verbunden!");
         bot.addProperty("reconnecting", "&eBot wird neu verbunden...");
+        bot.addProperty("not_found", "&cUnbekannter Bot: &7{0}");
 
         JsonObject status = new JsonObject();
         status.addProperty("online", "&aOnline");
@@ -277,7 +368,7 @@ public class LanguageManager {
         JsonObject commands = new JsonObject();
         JsonObject botCmd = new JsonObject();
         botCmd.addProperty("description", "Bot-Verwaltungskommandos");
-        botCmd.addProperty("usage", "&cVerwendung: &7/bot <connect|disconnect|status|reconnect|reload>");
+        botCmd.addProperty("usage", "&cVerwendung: &7/bot <connect|disconnect|status|metrics|reconnect|reload> [bot|all]");
         botCmd.addProperty("unknown_subcommand", "&cUnbekannter Befehl: &7{0}");
         botCmd.addProperty("no_permission", "&cDu hast keine Berechtigung für diesen Befehl!");
         commands.add("bot", botCmd);
@@ -291,11 +382,33 @@ public class LanguageManager {
 
         JsonObject display = new JsonObject();
         display.addProperty("status_header", "&7=== &bBot Status &7===");
+        display.addProperty("name_line", "&7Bot: &b{0}");
         display.addProperty("status_line", "&7Status: {0}");
         display.addProperty("server_line", "&7Server: &b{0}");
         display.addProperty("account_line", "&7Account: &a{0}");
         display.addProperty("uptime_line", "&7Laufzeit: &e{0}");
+        display.addProperty("keepalive_line", "&7Keep-Alive: alle &e{0}ms &7(Jitter &e{1}ms&7, p99 &e{2}ms&7), Antwort &e{3}µs &7(p99 &e{4}µs&7), Abbrüche &e{5}");
         display.addProperty("last_error_line", "&7Letzter Fehler: &c{0}");
+        display.addProperty("fleet_line", "&7Flotte: &e{0}&7/&e{1} &7online, &e{2} &7Verbindungsversuch(e) ausstehend");
+        display.addProperty("fleet_reconnect_line", "&7Nächster Verbindungsversuch der Flotte: &e{0} &7in &e{1}s &7(Versuch {2})");
+        display.addProperty("pipeline_line", "&7Verbindungs-Pipeline: &e{0} &7wartend, &e{1}&7/&e{2} &7aktiv, Auth &e{3}ms&7, Verbindung &e{4}ms");
+        display.addProperty("breaker_line", "&7Circuit Breaker: Auth {0}&7, Verbindung {1}&7; Auth-Ratenlimit &e{2}&7/&e{3} &7frei");
+        display.addProperty("breaker_closed", "&ageschlossen");
+        display.addProperty("breaker_open", "&coffen &7({0}s)");
+        display.addProperty("breaker_half_open", "&ehalb offen");
+        display.addProperty("reconnect_line", "&7Nächster Verbindungsversuch: &ein {0}s &7(Versuch {1})");
+        display.addProperty("metrics_header", "&7=== &bBot Metriken &7===");
+        display.addProperty("metrics_inbound_line", "&7Eingehend:");
+        display.addProperty("metrics_outbound_line", "&7Ausgehend:");
+        display.addProperty("metrics_packet_line", "&7 {0}: &e{1} &7({2} Fehler) p50 &e{3}µs &7p99 &e{4}µs &7max &e{5}µs");
+        display.addProperty("metrics_writes_line", "&7Ausgehend: &e{0} &7Pakete in &e{1} &7gebündelten + &e{2} &7sofortigen Flushes");
+        display.addProperty("metrics_unhandled_line", "&7Unbehandelte Pakete: &e{0} &7in &e{1} &7Typen");
+        display.addProperty("metrics_transitions_line", "&7Zustandswechsel: &e{0} &7(abgelehnt &e{1}&7)");
+        display.addProperty("metrics_log_line", "&7Log-Puffer: &e{0}&7/&e{1}&7, verworfen &e{2} &7Debug, &e{3} &7andere");
+        display.addProperty("metrics_auth_line", "&7Auth: &e{0}% &7ohne Passwort (&e{1} &7Cache, &e{2} &7erneuert, &e{3} &7Logins, &e{4} &7fehlgeschlagen) p50 &e{5}ms &7p99 &e{6}ms");
+        display.addProperty("metrics_http_line", "&7 {0}: &e{1} &7Anfragen (&e{2} &7Fehler, &e{3} &7neue Verbindungen) p50 &e{4}ms &7p99 &e{5}ms");
+        display.addProperty("metrics_server_line", "&7Server &b{0}&7: RTT &e{1}µs&7, Fehlschläge in Folge &e{2}");
+        display.addProperty("metrics_language_line", "&7Sprach-Cache: &e{0} &7Sprachen, &e{1} &7Treffer, &e{2} &7Fehlschläge, &e{3} &7verdrängt");
         root.add("display", display);
 
         return root;
@@ -0,0 +1,119 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A language message split once into literal segments and {@code {n}} placeholder indices, with
+ * {@code &} color codes already translated. Formatting is a single pass over the segments.
+ * <p>
+ * Placeholders without a matching argument are kept verbatim, like the former replace loop did. Braces
+ * around anything but one to {@value #MAX_PLACEHOLDER_DIGITS} ASCII digits are plain text.
+ */
+public final class MessageTemplate {
+
+    private static final char COLOR_CODE = '&';
+    private static final char SECTION_SIGN = '§';
+    private static final int MAX_PLACEHOLDER_DIGITS = 4;
+
+    private final String[] literals;
+    private final int[] placeholders;
+    private final int literalLength;
+
+    private MessageTemplate(String[] literals, int[] placeholders) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static MessageTemplate compile(String message) {
+        StringBuilder literal = new StringBuilder(message.length());
+        List<String> literals = new ArrayList<>();
+        List<Integer> placeholders = new ArrayList<>();
+
+        int length = message.length();
+        int i = 0;
+        while (i < length) {
+            char c = message.charAt(i);
+
+            if (c == '{') {
+                int end = i + 1;
+                while (end < length && end - i <= MAX_PLACEHOLDER_DIGITS && isAsciiDigit(message.charAt(end))) {
+                    end++;
+                }
+                if (end > i + 1 && end < length && message.charAt(end) == '}') {
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    placeholders.add(Integer.parseInt(message, i + 1, end, 10));
+                    i = end + 1;
+                    continue;
+                }
+            }
+
+            literal.append(c == COLOR_CODE ? SECTION_SIGN : c);
+            i++;
+        }
+        literals.add(literal.toString());
+
+        int[] indices = new int[placeholders.size()];
+        for (int j = 0; j < indices.length; j++) {
+            indices[j] = placeholders.get(j);
+        }
+        return new MessageTemplate(literals.toArray(new String[0]), indices);
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    public String format(Object... args) {
+        if (placeholders.length == 0) {
+            return literals[0];
+        }
+
+        StringBuilder builder = new StringBuilder(literalLength + 16 * placeholders.length);
+        for (int i = 0; i < placeholders.length; i++) {
+            builder.append(literals[i]);
+
+            int index = placeholders[i];
+            if (args != null && index < args.length) {
+                builder.append(args[index]);
+            } else {
+                builder.append('{').append(index).append('}');
+            }
+        }
+        return builder.append(literals[placeholders.length]).toString();
+    }
+
+    public int getPlaceholderCount() {
+        return placeholders.length;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.connection;
+
+import com.mythicisland.mc.bot.utils.BotLogger;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Stops calls to a failing remote after {@code failureThreshold} failures in a row. While open, calls
+ * are rejected without touching the remote; once {@code openMillis} have passed a single probe is let
+ * through, and its outcome either closes the breaker or opens it for another period.
+ */
+public class CircuitBreaker {
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum State {
+        CLOSED("closed"),
+        OPEN("open"),
+        HALF_OPEN("half_open");
+
+        private final String displayName;
+    }
+
+    @Getter
+    private final String name;
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtMillis;
+
+    public CircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * Returns whether a call may go ahead. Every permitted call must end in {@link #recordSuccess()},
+     * {@link #recordFailure()} or {@link #release()}.
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.currentTimeMillis() - openedAtMillis < openMillis) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                BotLogger.debug("Circuit breaker '{}' half-open, letting one probe through", name);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public synchronized void recordSuccess() {
+        if (state != State.CLOSED) {
+            BotLogger.info("Circuit breaker '" + name + "' closed");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openedAtMillis = System.currentTimeMillis();
+            BotLogger.warning("Circuit breaker '" + name + "' opened after " + consecutiveFailures
+                    + " failure(s), pausing calls for " + openMillis / 1000 + "s");
+        }
+    }
+
+    /**
+     * Ends a permitted call that neither succeeded nor failed, such as a cancelled one. A released probe
+     * returns the breaker to open without restarting the open period, so the next call probes again.
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            state = State.OPEN;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    /**
+     * Milliseconds until an open breaker lets the next probe through, {@code 0} when not open.
+     */
+    public synchronized long getRemainingOpenMillis() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        return Math.max(0, openedAtMillis + openMillis - System.currentTimeMillis());
+    }
+}
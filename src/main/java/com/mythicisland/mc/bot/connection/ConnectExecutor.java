@@ -0,0 +1,158 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.connection;
+
+import com.mythicisland.mc.bot.utils.BotLogger;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs the blocking connect pipeline (authentication and session setup) on virtual threads,
+ * keeping it off the common ForkJoinPool. A fair semaphore caps how many pipelines run at once;
+ * the rest wait in the queue.
+ */
+public class ConnectExecutor {
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Stage {
+        QUEUE("queue"),
+        AUTHENTICATION("auth"),
+        CONNECTION("connect");
+
+        private final String displayName;
+    }
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    @Getter
+    private final int maxConcurrent;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<Stage, StageStats> stageStats = new EnumMap<>(Stage.class);
+
+    public ConnectExecutor(int maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("SimpleBot-Connect-", 0).factory());
+
+        for (Stage stage : Stage.values()) {
+            stageStats.put(stage, new StageStats());
+        }
+    }
+
+    public CompletableFuture<Void> submit(Runnable pipeline) {
+        queued.incrementAndGet();
+        long queuedAt = System.nanoTime();
+
+        return CompletableFuture.runAsync(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                queued.decrementAndGet();
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+
+            queued.decrementAndGet();
+            stageStats.get(Stage.QUEUE).record(System.nanoTime() - queuedAt);
+            inFlight.incrementAndGet();
+            try {
+                pipeline.run();
+            } finally {
+                inFlight.decrementAndGet();
+                permits.release();
+            }
+        }, executor);
+    }
+
+    public void time(Stage stage, Runnable step) {
+        long start = System.nanoTime();
+        try {
+            step.run();
+        } finally {
+            stageStats.get(stage).record(System.nanoTime() - start);
+        }
+    }
+
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public StageStats getStageStats(Stage stage) {
+        return stageStats.get(stage);
+    }
+
+    public Map<Stage, StageStats> getAllStageStats() {
+        return Collections.unmodifiableMap(stageStats);
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+        BotLogger.debug("Connect executor shut down (" + inFlight.get() + " in flight, " + queued.get() + " queued)");
+    }
+
+    public static class StageStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getAverageMillis() {
+            long samples = count.sum();
+            return samples == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.sum() / samples);
+        }
+
+        public long getMaxMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+        }
+    }
+}
@@ -26,12 +26,12 @@ package com.mythicisland.mc.bot.connection;
 import com.mythicisland.mc.bot.Main;
 import com.mythicisland.mc.bot.core.MinecraftBot;
 import com.mythicisland.mc.bot.utils.BotLogger;
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 
-@RequiredArgsConstructor
 public class ConnectionManager {
 
     private final Main plugin;
+    @Getter
     private final ReconnectHandler reconnectHandler;
 
     public ConnectionManager(Main plugin) {
@@ -40,17 +40,39 @@ public class ConnectionManager {
     }
 
     public void initialize() {
+        plugin.getBotFleet().getBots().forEach(reconnectHandler::register);
         BotLogger.info("ConnectionManager initialized");
     }
 
+    public void connectAll() {
+        for (MinecraftBot bot : plugin.getBotFleet().getBots()) {
+            if (bot.getState().canConnect()) {
+                bot.connect();
+            }
+        }
+    }
+
+    public void disconnectAll(String reason) {
+        for (MinecraftBot bot : plugin.getBotFleet().getBots()) {
+            if (bot.isConnected()) {
+                bot.disconnect(reason);
+            }
+        }
+    }
+
     public void handleConnectionLost(MinecraftBot bot, String reason) {
-        BotLogger.warning("Connection lost: " + reason);
+        BotLogger.debug("[" + bot.getName() + "] Connection lost: " + reason);
 
         if (plugin.getConfigManager().shouldAutoReconnect()) {
             reconnectHandler.scheduleReconnect(bot);
         }
     }
 
+    public void resetReconnect(MinecraftBot bot) {
+        reconnectHandler.cancelReconnect(bot);
+        reconnectHandler.resetBackoff(bot);
+    }
+
     public void shutdown() {
         reconnectHandler.cancelAllReconnects();
         BotLogger.info("ConnectionManager shut down");
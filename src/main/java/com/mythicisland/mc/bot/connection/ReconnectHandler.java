@@ -24,48 +24,156 @@
 package com.mythicisland.mc.bot.connection;
 
 import com.mythicisland.mc.bot.Main;
+import com.mythicisland.mc.bot.constants.BotConstants;
 import com.mythicisland.mc.bot.core.BotState;
+import com.mythicisland.mc.bot.core.BotStateListener;
 import com.mythicisland.mc.bot.core.MinecraftBot;
 import com.mythicisland.mc.bot.utils.BotLogger;
+import io.netty.util.Timeout;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.bukkit.Bukkit;
-import org.bukkit.scheduler.BukkitTask;
 
-@RequiredArgsConstructor
-public class ReconnectHandler {
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owns every automatic reconnect decision of the fleet.
+ * <p>
+ * Delays follow "decorrelated jitter" backoff: each delay is drawn uniformly from
+ * {@code [base, previous * 3]} and capped, so bots that lost their connection at the same moment
+ * spread their logins out instead of retrying in lockstep. A bot that stays online for
+ * {@link BotConstants#RECONNECT_STABLE_SECONDS} gets its attempts and backoff reset.
+ */
+public class ReconnectHandler implements BotStateListener {
 
     private final Main plugin;
-    private BukkitTask reconnectTask;
+    private final Map<String, PendingReconnect> pendingReconnects = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastDelays = new ConcurrentHashMap<>();
 
-    public void scheduleReconnect(MinecraftBot bot) {
-        if (reconnectTask != null && !reconnectTask.isCancelled()) {
-            reconnectTask.cancel();
-        }
+    public ReconnectHandler(Main plugin) {
+        this.plugin = plugin;
+    }
 
-        int delay = plugin.getConfigManager().getReconnectDelaySeconds();
+    public void register(MinecraftBot bot) {
+        bot.addStateListener(this);
+    }
+
+    public boolean scheduleReconnect(MinecraftBot bot) {
         int maxAttempts = plugin.getConfigManager().getMaxReconnectAttempts();
-        int currentAttempts = bot.getReconnectAttempts().get();
+        int currentAttempts = bot.getReconnectAttempts().incrementAndGet();
 
-        if (currentAttempts >= maxAttempts) {
-            BotLogger.error("Maximum number of reconnect attempts reached");
-            return;
+        if (currentAttempts > maxAttempts) {
+            BotLogger.error("[" + bot.getName() + "] Maximum number of reconnect attempts reached (" + maxAttempts + ")");
+            return false;
         }
 
-        BotLogger.info("Scheduling reconnect in " + delay + " seconds");
-        bot.setState(BotState.RECONNECTING);
+        if (!bot.transitionTo(BotState.RECONNECTING)) {
+            bot.getReconnectAttempts().decrementAndGet();
+            return false;
+        }
 
-        reconnectTask = Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            if (bot.getState() == BotState.RECONNECTING) {
-                BotLogger.info("Executing automatic reconnect...");
-                bot.connect();
-            }
-        }, delay * 20L);
+        long delayMs = nextDelay(bot);
+        PendingReconnect pending = new PendingReconnect(bot.getName(), currentAttempts, delayMs,
+                System.currentTimeMillis() + delayMs);
+        PendingReconnect previous = pendingReconnects.put(bot.getName(), pending);
+        if (previous != null) {
+            previous.cancel();
+        }
+
+        pending.timeout = plugin.getBotFleet().getTimer().newTimeout(timeout -> {
+            pendingReconnects.remove(bot.getName(), pending);
+            bot.performScheduledReconnect();
+        }, delayMs, TimeUnit.MILLISECONDS);
+
+        BotLogger.info("[" + bot.getName() + "] Scheduling reconnect in " + (delayMs / 1000.0) + " seconds (attempt "
+                + currentAttempts + "/" + maxAttempts + ")");
+        return true;
+    }
+
+    private long nextDelay(MinecraftBot bot) {
+        long baseMs = TimeUnit.SECONDS.toMillis(plugin.getConfigManager().getReconnectDelaySeconds());
+        long capMs = Math.max(baseMs, TimeUnit.SECONDS.toMillis(BotConstants.MAX_RECONNECT_DELAY));
+
+        long previousMs = lastDelays.getOrDefault(bot.getName(), baseMs);
+        long upperMs = Math.min(capMs, Math.max(baseMs, previousMs * 3));
+        long delayMs = upperMs > baseMs ? ThreadLocalRandom.current().nextLong(baseMs, upperMs + 1) : baseMs;
+
+        lastDelays.put(bot.getName(), delayMs);
+        return delayMs;
+    }
+
+    public void resetBackoff(MinecraftBot bot) {
+        bot.getReconnectAttempts().set(0);
+        lastDelays.remove(bot.getName());
+    }
+
+    public void cancelReconnect(MinecraftBot bot) {
+        PendingReconnect pending = pendingReconnects.remove(bot.getName());
+        if (pending != null) {
+            pending.cancel();
+            BotLogger.debug("[" + bot.getName() + "] Pending reconnect cancelled");
+        }
+    }
+
+    public PendingReconnect getPendingReconnect(MinecraftBot bot) {
+        return pendingReconnects.get(bot.getName());
+    }
+
+    public List<PendingReconnect> getPendingReconnects() {
+        List<PendingReconnect> pending = new ArrayList<>(pendingReconnects.values());
+        pending.sort(Comparator.comparingLong(PendingReconnect::getDueAtMillis));
+        return pending;
+    }
+
+    @Override
+    public void onStateChange(MinecraftBot bot, BotState from, BotState to) {
+        if (from == BotState.RECONNECTING && to != BotState.CONNECTING) {
+            cancelReconnect(bot);
+        }
+
+        if (to == BotState.ONLINE) {
+            long transitionsAtConnect = bot.getTransitionCount();
+            plugin.getBotFleet().getTimer().newTimeout(timeout -> {
+                if (bot.getState() == BotState.ONLINE && bot.getTransitionCount() == transitionsAtConnect) {
+                    resetBackoff(bot);
+                    BotLogger.debug("[" + bot.getName() + "] Connection stable, reconnect backoff reset");
+                }
+            }, BotConstants.RECONNECT_STABLE_SECONDS, TimeUnit.SECONDS);
+        }
     }
 
     public void cancelAllReconnects() {
-        if (reconnectTask != null && !reconnectTask.isCancelled()) {
-            reconnectTask.cancel();
-            BotLogger.debug("Reconnect task cancelled");
+        pendingReconnects.values().forEach(PendingReconnect::cancel);
+        pendingReconnects.clear();
+        BotLogger.debug("Reconnect tasks cancelled");
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class PendingReconnect {
+
+        private final String botName;
+        private final int attempt;
+        private final long delayMs;
+        private final long dueAtMillis;
+        @Getter(AccessLevel.NONE)
+        private volatile Timeout timeout;
+
+        public long getRemainingSeconds() {
+            return Math.max(0, TimeUnit.MILLISECONDS.toSeconds(dueAtMillis - System.currentTimeMillis()));
+        }
+
+        void cancel() {
+            Timeout current = timeout;
+            if (current != null) {
+                current.cancel();
+            }
         }
     }
 }
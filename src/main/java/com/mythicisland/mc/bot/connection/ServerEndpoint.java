@@ -0,0 +1,153 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.connection;
+
+import com.mythicisland.mc.bot.exceptions.ConfigurationException;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A server the fleet can connect to, together with its health as seen by status pings and by real
+ * connect attempts. RTT is kept as an exponentially weighted moving average so one slow ping does not
+ * flip the selection.
+ */
+@Getter
+public class ServerEndpoint {
+
+    private static final double RTT_WEIGHT = 0.3;
+    private static final long UNPROBED_SCORE = Long.MAX_VALUE / 4;
+    private static final long FAILING_SCORE = Long.MAX_VALUE / 2;
+
+    private final String host;
+    private final int port;
+
+    private volatile long averageRttMicros = -1;
+    private volatile long lastProbeMillis;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean probing = new AtomicBoolean();
+
+    public ServerEndpoint(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    /**
+     * Parses {@code host}, {@code host:port}, {@code [ipv6]} or {@code [ipv6]:port}; the port defaults to
+     * {@code defaultPort}. An unbracketed address with more than one colon is a bare IPv6 host.
+     *
+     * @throws ConfigurationException if the brackets or the port are malformed, naming the address
+     */
+    public static ServerEndpoint parse(String address, int defaultPort) {
+        String trimmed = address.trim();
+        if (trimmed.startsWith("[")) {
+            int close = trimmed.indexOf(']');
+            if (close < 0) {
+                throw new ConfigurationException("Unclosed '[' in server address '" + address + "'");
+            }
+            String host = trimmed.substring(1, close);
+            String rest = trimmed.substring(close + 1);
+            if (rest.isEmpty()) {
+                return new ServerEndpoint(host, defaultPort);
+            }
+            if (!rest.startsWith(":")) {
+                throw new ConfigurationException("Unexpected '" + rest + "' after ']' in server address '" + address + "'");
+            }
+            return new ServerEndpoint(host, parsePort(rest.substring(1), address));
+        }
+
+        int separator = trimmed.indexOf(':');
+        if (separator < 0 || separator != trimmed.lastIndexOf(':')) {
+            return new ServerEndpoint(trimmed, defaultPort);
+        }
+        return new ServerEndpoint(trimmed.substring(0, separator), parsePort(trimmed.substring(separator + 1), address));
+    }
+
+    private static int parsePort(String port, String address) {
+        try {
+            return Integer.parseInt(port);
+        } catch (NumberFormatException e) {
+            throw new ConfigurationException("Invalid port '" + port + "' in server address '" + address + "'", e);
+        }
+    }
+
+    public synchronized void recordSuccess(long rttNanos) {
+        long rttMicros = TimeUnit.NANOSECONDS.toMicros(rttNanos);
+        long previous = averageRttMicros;
+        averageRttMicros = previous < 0 ? rttMicros : Math.round(previous + RTT_WEIGHT * (rttMicros - previous));
+        lastProbeMillis = System.currentTimeMillis();
+        consecutiveFailures.set(0);
+    }
+
+    /**
+     * A real connect reached login success: the endpoint is healthy again, whatever probes said before.
+     * The RTT average is left to the status pings.
+     */
+    public void recordConnectSuccess() {
+        consecutiveFailures.set(0);
+    }
+
+    public void recordFailure() {
+        lastProbeMillis = System.currentTimeMillis();
+        consecutiveFailures.incrementAndGet();
+    }
+
+    public boolean isAvailable() {
+        return consecutiveFailures.get() == 0;
+    }
+
+    /**
+     * Lower is better: healthy endpoints rank by RTT, then endpoints that were never probed,
+     * then failing endpoints by how often they failed in a row.
+     */
+    public long getScore() {
+        int failures = consecutiveFailures.get();
+        if (failures > 0) {
+            return FAILING_SCORE + failures;
+        }
+        long rtt = averageRttMicros;
+        return rtt < 0 ? UNPROBED_SCORE : rtt;
+    }
+
+    boolean tryStartProbe() {
+        return probing.compareAndSet(false, true);
+    }
+
+    void finishProbe() {
+        probing.set(false);
+    }
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
+    @Override
+    public String toString() {
+        return (host.indexOf(':') >= 0 ? "[" + host + "]" : host) + ":" + port;
+    }
+}
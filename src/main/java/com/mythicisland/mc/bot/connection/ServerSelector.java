@@ -0,0 +1,250 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.connection;
+
+import com.github.steveice10.mc.protocol.codec.MinecraftCodec;
+import com.mythicisland.mc.bot.constants.BotConstants;
+import com.mythicisland.mc.bot.utils.BotLogger;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chooses which server a bot connects to. With more than one configured endpoint, every endpoint is
+ * pinged in the background with a Server List Ping status request, and connect attempts walk the
+ * endpoints from the healthiest, lowest-latency one down, so a dead server is skipped immediately
+ * instead of waiting for the reconnect backoff.
+ */
+public class ServerSelector {
+
+    private final Timer timer;
+    @Getter
+    private final List<ServerEndpoint> endpoints;
+    private volatile long probeIntervalSeconds;
+    private volatile int probeTimeoutMs;
+
+    private volatile Timeout nextProbe;
+    private volatile boolean running;
+
+    public ServerSelector(Timer timer, List<String> servers, int probeIntervalSeconds, int timeoutSeconds) {
+        this.timer = timer;
+        this.probeIntervalSeconds = probeIntervalSeconds;
+        this.probeTimeoutMs = (int) TimeUnit.SECONDS.toMillis(timeoutSeconds);
+
+        List<ServerEndpoint> parsed = new ArrayList<>();
+        for (String server : servers) {
+            parsed.add(ServerEndpoint.parse(server, BotConstants.DEFAULT_MINECRAFT_PORT));
+        }
+        if (parsed.isEmpty()) {
+            parsed.add(localServer());
+        }
+        this.endpoints = List.copyOf(parsed);
+    }
+
+    public synchronized void start() {
+        if (endpoints.size() < 2 || probeIntervalSeconds <= 0) {
+            BotLogger.debug("Server target: " + endpoints.get(0));
+            return;
+        }
+
+        running = true;
+        probeAll();
+        BotLogger.info("Probing " + endpoints.size() + " servers every " + probeIntervalSeconds + "s");
+    }
+
+    public synchronized void stop() {
+        running = false;
+        Timeout current = nextProbe;
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    /**
+     * Endpoints in the order a connect attempt should try them.
+     */
+    public List<ServerEndpoint> getCandidates() {
+        if (endpoints.size() == 1) {
+            return endpoints;
+        }
+
+        List<ServerEndpoint> candidates = new ArrayList<>(endpoints);
+        candidates.sort(Comparator.comparingLong(ServerEndpoint::getScore));
+        return candidates;
+    }
+
+    public ServerEndpoint getPreferred() {
+        return getCandidates().get(0);
+    }
+
+    /**
+     * Applies a new probe interval and probe timeout, restarting background probing if it runs.
+     */
+    public synchronized void reconfigure(int probeIntervalSeconds, int timeoutSeconds) {
+        stop();
+        this.probeIntervalSeconds = probeIntervalSeconds;
+        this.probeTimeoutMs = (int) TimeUnit.SECONDS.toMillis(timeoutSeconds);
+        start();
+    }
+
+    private synchronized void probeAll() {
+        if (!running) {
+            return;
+        }
+
+        for (ServerEndpoint endpoint : endpoints) {
+            if (endpoint.tryStartProbe()) {
+                Thread.ofVirtual().name("SimpleBot-Probe").start(() -> probe(endpoint));
+            }
+        }
+
+        nextProbe = timer.newTimeout(timeout -> probeAll(), probeIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    private void probe(ServerEndpoint endpoint) {
+        try {
+            long rttNanos = ping(endpoint);
+            endpoint.recordSuccess(rttNanos);
+            BotLogger.debug("Probe {} ok in {}µs", endpoint, TimeUnit.NANOSECONDS.toMicros(rttNanos));
+        } catch (IOException | RuntimeException e) {
+            endpoint.recordFailure();
+            BotLogger.debug("Probe {} failed: {}", endpoint, e.getMessage());
+        } finally {
+            endpoint.finishProbe();
+        }
+    }
+
+    /**
+     * Sends a handshake and a status request and returns the time until the first byte of the
+     * status response arrives. The response body itself is not read.
+     */
+    private long ping(ServerEndpoint endpoint) throws IOException {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(endpoint.getHost(), endpoint.getPort()), probeTimeoutMs);
+            socket.setSoTimeout(probeTimeoutMs);
+            socket.setTcpNoDelay(true);
+
+            ByteArrayOutputStream handshake = new ByteArrayOutputStream();
+            DataOutputStream handshakeData = new DataOutputStream(handshake);
+            writeVarInt(handshakeData, 0x00);
+            writeVarInt(handshakeData, MinecraftCodec.CODEC.getProtocolVersion());
+            byte[] host = endpoint.getHost().getBytes(StandardCharsets.UTF_8);
+            writeVarInt(handshakeData, host.length);
+            handshakeData.write(host);
+            handshakeData.writeShort(endpoint.getPort());
+            writeVarInt(handshakeData, 1);
+
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            writeVarInt(out, handshake.size());
+            handshake.writeTo(out);
+            out.writeByte(1);
+            out.writeByte(0x00);
+
+            long start = System.nanoTime();
+            out.flush();
+
+            InputStream in = socket.getInputStream();
+            if (in.read() < 0) {
+                throw new IOException("Connection closed before status response");
+            }
+            return System.nanoTime() - start;
+        }
+    }
+
+    private static void writeVarInt(OutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    /**
+     * The server this plugin runs on, from Bukkit or {@code server.properties} (read once).
+     */
+    private static ServerEndpoint localServer() {
+        String host = null;
+        int port = -1;
+
+        try {
+            String serverIp = Bukkit.getServer().getIp();
+            if (serverIp != null && !serverIp.isEmpty() && !serverIp.equals("0.0.0.0")) {
+                host = serverIp;
+            }
+            if (Bukkit.getServer().getPort() > 0) {
+                port = Bukkit.getServer().getPort();
+            }
+        } catch (Exception e) {
+            BotLogger.debug("Bukkit server address not available: " + e.getMessage());
+        }
+
+        if (host == null || port <= 0) {
+            Properties props = readServerProperties();
+            if (host == null) {
+                String serverIp = props.getProperty("server-ip", "").trim();
+                host = serverIp.isEmpty() ? BotConstants.DEFAULT_SERVER_HOST : serverIp;
+            }
+            if (port <= 0) {
+                try {
+                    port = Integer.parseInt(props.getProperty("server-port", "").trim());
+                } catch (NumberFormatException e) {
+                    port = BotConstants.DEFAULT_MINECRAFT_PORT;
+                }
+            }
+        }
+
+        BotLogger.debug("Local server determined: " + host + ":" + port);
+        return new ServerEndpoint(host, port);
+    }
+
+    private static Properties readServerProperties() {
+        Properties props = new Properties();
+        File serverProps = new File("server.properties");
+        if (serverProps.exists()) {
+            try (FileInputStream fis = new FileInputStream(serverProps)) {
+                props.load(fis);
+            } catch (IOException e) {
+                BotLogger.debug("Could not read server.properties: " + e.getMessage());
+            }
+        }
+        return props;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.connection;
+
+import com.github.steveice10.packetlib.tcp.TcpClientSession;
+import com.mythicisland.mc.bot.utils.BotLogger;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.Getter;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One Netty event loop shared by every bot of the fleet.
+ * <p>
+ * {@link TcpClientSession} keeps its event loop in static fields and creates it lazily on the
+ * first connect. Installing our own group there before any session connects lets all bots run on
+ * a single, sized and plugin-owned loop that is shut down together with the plugin. The loop runs on
+ * the configured {@link Transport}, so every bot socket uses epoll or io_uring where available.
+ */
+@Getter
+public class SharedEventLoop {
+
+    private static final String FIELD_EVENT_LOOP_GROUP = "EVENT_LOOP_GROUP";
+    private static final String FIELD_CHANNEL_CLASS = "CHANNEL_CLASS";
+    private static final String FIELD_DATAGRAM_CHANNEL_CLASS = "DATAGRAM_CHANNEL_CLASS";
+
+    private final Transport transport;
+    private final EventLoopGroup group;
+    private final Class<? extends Channel> channelClass;
+    private final Class<? extends DatagramChannel> datagramChannelClass;
+
+    public SharedEventLoop(int threads, String transport) {
+        this.transport = Transport.resolve(transport);
+        this.group = this.transport.createGroup(threads, new DefaultThreadFactory("SimpleBot-Netty", true));
+        this.channelClass = this.transport.getChannelClass();
+        this.datagramChannelClass = this.transport.getDatagramChannelClass();
+    }
+
+    public void install() {
+        setSessionField(FIELD_EVENT_LOOP_GROUP, group);
+        setSessionField(FIELD_CHANNEL_CLASS, channelClass);
+        setSessionField(FIELD_DATAGRAM_CHANNEL_CLASS, datagramChannelClass);
+        BotLogger.info("Shared event loop installed (" + transport.getConfigName() + ", "
+                + channelClass.getSimpleName() + ")");
+    }
+
+    public void shutdown() {
+        if (getSessionField(FIELD_EVENT_LOOP_GROUP) == group) {
+            setSessionField(FIELD_EVENT_LOOP_GROUP, null);
+            setSessionField(FIELD_CHANNEL_CLASS, null);
+            setSessionField(FIELD_DATAGRAM_CHANNEL_CLASS, null);
+        }
+
+        group.shutdownGracefully(100, 500, TimeUnit.MILLISECONDS);
+        BotLogger.debug("Shared event loop shut down");
+    }
+
+    private static Object getSessionField(String name) {
+        try {
+            Field field = TcpClientSession.class.getDeclaredField(name);
+            field.setAccessible(true);
+            return field.get(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void setSessionField(String name, Object value) {
+        try {
+            Field field = TcpClientSession.class.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(null, value);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            BotLogger.warning("Could not set TcpClientSession." + name + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.connection;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket that allows bursts of up to {@code capacity} calls and refills at a fixed rate.
+ * Callers reserve a token and wait out the returned delay themselves; reservations may drive the
+ * balance negative, which queues later callers behind earlier ones in arrival order.
+ */
+public class TokenBucket {
+
+    @Getter
+    private final int capacity;
+    private final long nanosPerToken;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(int capacity, int tokensPerMinute) {
+        this.capacity = capacity;
+        this.nanosPerToken = TimeUnit.MINUTES.toNanos(1) / tokensPerMinute;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Takes one token and returns how many nanoseconds the caller has to wait before using it, or
+     * {@code -1} without taking anything when that wait would exceed {@code maxWaitNanos}.
+     */
+    public synchronized long reserve(long maxWaitNanos) {
+        refill();
+
+        long waitNanos = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) * nanosPerToken);
+        if (waitNanos > maxWaitNanos) {
+            return -1;
+        }
+
+        tokens -= 1;
+        return waitNanos;
+    }
+
+    public synchronized int getAvailableTokens() {
+        refill();
+        return (int) Math.max(0, Math.floor(tokens));
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (double) (now - lastRefillNanos) / nanosPerToken);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.connection;
+
+import com.mythicisland.mc.bot.utils.BotLogger;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.incubator.channel.uring.IOUring;
+import io.netty.incubator.channel.uring.IOUringDatagramChannel;
+import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
+import io.netty.incubator.channel.uring.IOUringSocketChannel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Netty transports the shared event loop can run on. The native ones are only used when their
+ * library loads on this machine; {@link #resolve} falls back to NIO otherwise.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Transport {
+    NIO("nio", NioSocketChannel.class, NioDatagramChannel.class),
+    EPOLL("epoll", EpollSocketChannel.class, EpollDatagramChannel.class),
+    IO_URING("io_uring", IOUringSocketChannel.class, IOUringDatagramChannel.class);
+
+    public static final String AUTO = "auto";
+
+    private final String configName;
+    private final Class<? extends Channel> channelClass;
+    private final Class<? extends DatagramChannel> datagramChannelClass;
+
+    public boolean isAvailable() {
+        try {
+            switch (this) {
+                case EPOLL:
+                    return Epoll.isAvailable();
+                case IO_URING:
+                    return IOUring.isAvailable();
+                default:
+                    return true;
+            }
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    public EventLoopGroup createGroup(int threads, ThreadFactory threadFactory) {
+        switch (this) {
+            case EPOLL:
+                return new EpollEventLoopGroup(threads, threadFactory);
+            case IO_URING:
+                return new IOUringEventLoopGroup(threads, threadFactory);
+            default:
+                return new NioEventLoopGroup(threads, threadFactory);
+        }
+    }
+
+    /**
+     * Picks the transport for a {@code bot.fleet.transport} value. {@code auto} prefers epoll, the most
+     * mature native transport, then io_uring. A requested native transport that cannot load falls back
+     * to NIO with a warning instead of failing the plugin.
+     */
+    public static Transport resolve(String configured) {
+        if (AUTO.equalsIgnoreCase(configured)) {
+            for (Transport candidate : new Transport[]{EPOLL, IO_URING}) {
+                if (candidate.isAvailable()) {
+                    return candidate;
+                }
+            }
+            return NIO;
+        }
+
+        Transport requested = fromConfigName(configured);
+        if (requested == null) {
+            BotLogger.warning("Unknown transport '" + configured + "', using nio");
+            return NIO;
+        }
+        if (!requested.isAvailable()) {
+            BotLogger.warning("Transport " + requested.configName + " is not available on this system"
+                    + describeUnavailability(requested) + ", falling back to nio");
+            return NIO;
+        }
+        return requested;
+    }
+
+    public static Transport fromConfigName(String name) {
+        for (Transport transport : values()) {
+            if (transport.configName.equalsIgnoreCase(name)) {
+                return transport;
+            }
+        }
+        return null;
+    }
+
+    public static boolean isValidConfigName(String name) {
+        return AUTO.equalsIgnoreCase(name) || fromConfigName(name) != null;
+    }
+
+    private static String describeUnavailability(Transport transport) {
+        try {
+            Throwable cause = transport == EPOLL ? Epoll.unavailabilityCause() : IOUring.unavailabilityCause();
+            return cause != null ? " (" + cause.getMessage() + ")" : "";
+        } catch (LinkageError e) {
+            return " (" + e.getMessage() + ")";
+        }
+    }
+
+    public static String getConfigNames() {
+        return AUTO + ", " + NIO.configName + ", " + EPOLL.configName + ", " + IO_URING.configName;
+    }
+}
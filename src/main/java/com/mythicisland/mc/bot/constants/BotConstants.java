@@ -34,13 +34,19 @@ public class BotConstants {
     public static final int DEFAULT_MINECRAFT_PORT = 25565;
     public static final String DEFAULT_SERVER_HOST = "localhost";
 
+    public static final String DEFAULT_BOT_NAME = "main";
+    public static final String ALL_BOTS = "all";
+
     public static final int MIN_RECONNECT_DELAY = 5;
     public static final int MAX_RECONNECT_DELAY = 300;
+    public static final int RECONNECT_STABLE_SECONDS = 60;
+    public static final int METRICS_TOP_PACKETS = 8;
     public static final int MIN_KEEP_ALIVE_INTERVAL = 10;
     public static final int MAX_KEEP_ALIVE_INTERVAL = 60;
 
     public static final int CONNECTION_TIMEOUT_MS = 10000;
     public static final int READ_TIMEOUT_MS = 30000;
+    public static final String DISCONNECT_REASON_TIMEOUT = "timeout";
 
     public static final String ACCOUNT_TYPE_MICROSOFT = "microsoft";
     public static final String ACCOUNT_TYPE_LEGACY = "legacy";
@@ -34,6 +34,7 @@ public class MessageKeys {
     public static final String BOT_ALREADY_CONNECTED = "bot.already_connected";
     public static final String BOT_NOT_CONNECTED = "bot.not_connected";
     public static final String BOT_RECONNECTING = "bot.reconnecting";
+    public static final String BOT_NOT_FOUND = "bot.not_found";
 
     public static final String BOT_STATUS_ONLINE = "bot.status.online";
     public static final String BOT_STATUS_OFFLINE = "bot.status.offline";
@@ -54,9 +55,29 @@ public class MessageKeys {
     public static final String CONFIG_RELOAD_FAILED = "config.reload_failed";
 
     public static final String DISPLAY_STATUS_HEADER = "display.status_header";
+    public static final String DISPLAY_NAME_LINE = "display.name_line";
     public static final String DISPLAY_STATUS_LINE = "display.status_line";
     public static final String DISPLAY_SERVER_LINE = "display.server_line";
     public static final String DISPLAY_ACCOUNT_LINE = "display.account_line";
     public static final String DISPLAY_UPTIME_LINE = "display.uptime_line";
+    public static final String DISPLAY_KEEPALIVE_LINE = "display.keepalive_line";
     public static final String DISPLAY_LAST_ERROR_LINE = "display.last_error_line";
+    public static final String DISPLAY_FLEET_LINE = "display.fleet_line";
+    public static final String DISPLAY_FLEET_RECONNECT_LINE = "display.fleet_reconnect_line";
+    public static final String DISPLAY_PIPELINE_LINE = "display.pipeline_line";
+    public static final String DISPLAY_BREAKER_LINE = "display.breaker_line";
+    public static final String DISPLAY_BREAKER_STATE_PREFIX = "display.breaker_";
+    public static final String DISPLAY_RECONNECT_LINE = "display.reconnect_line";
+    public static final String DISPLAY_METRICS_HEADER = "display.metrics_header";
+    public static final String DISPLAY_METRICS_INBOUND_LINE = "display.metrics_inbound_line";
+    public static final String DISPLAY_METRICS_OUTBOUND_LINE = "display.metrics_outbound_line";
+    public static final String DISPLAY_METRICS_PACKET_LINE = "display.metrics_packet_line";
+    public static final String DISPLAY_METRICS_WRITES_LINE = "display.metrics_writes_line";
+    public static final String DISPLAY_METRICS_UNHANDLED_LINE = "display.metrics_unhandled_line";
+    public static final String DISPLAY_METRICS_TRANSITIONS_LINE = "display.metrics_transitions_line";
+    public static final String DISPLAY_METRICS_LOG_LINE = "display.metrics_log_line";
+    public static final String DISPLAY_METRICS_AUTH_LINE = "display.metrics_auth_line";
+    public static final String DISPLAY_METRICS_HTTP_LINE = "display.metrics_http_line";
+    public static final String DISPLAY_METRICS_SERVER_LINE = "display.metrics_server_line";
+    public static final String DISPLAY_METRICS_LANGUAGE_LINE = "display.metrics_language_line";
 }
\ No newline at end of file
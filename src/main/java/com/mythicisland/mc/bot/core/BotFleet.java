@@ -0,0 +1,144 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.core;
+
+import com.mythicisland.mc.bot.Main;
+import com.mythicisland.mc.bot.auth.AuthGuard;
+import com.mythicisland.mc.bot.auth.AuthHttp;
+import com.mythicisland.mc.bot.auth.BotAccount;
+import com.mythicisland.mc.bot.auth.SessionRefresher;
+import com.mythicisland.mc.bot.auth.TokenCache;
+import com.mythicisland.mc.bot.connection.CircuitBreaker;
+import com.mythicisland.mc.bot.connection.ConnectExecutor;
+import com.mythicisland.mc.bot.connection.ServerSelector;
+import com.mythicisland.mc.bot.connection.SharedEventLoop;
+import com.mythicisland.mc.bot.connection.TokenBucket;
+import com.mythicisland.mc.bot.metrics.BotMetrics;
+import com.mythicisland.mc.bot.utils.BotLogger;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timer;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.Getter;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+public class BotFleet {
+
+    private final Main plugin;
+    private final Map<String, MinecraftBot> bots = new ConcurrentSkipListMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    @Getter
+    private final SharedEventLoop eventLoop;
+    @Getter
+    private final Timer timer;
+    @Getter
+    private final ConnectExecutor connectExecutor;
+    @Getter
+    private final ServerSelector serverSelector;
+    @Getter
+    private final TokenCache tokenCache;
+    @Getter
+    private final AuthGuard authGuard;
+    @Getter
+    private final CircuitBreaker connectBreaker;
+    @Getter
+    private final SessionRefresher sessionRefresher;
+    @Getter
+    private final BotMetrics metrics = new BotMetrics();
+
+    public BotFleet(Main plugin) {
+        this.plugin = plugin;
+        this.eventLoop = new SharedEventLoop(plugin.getConfigManager().getEventLoopThreads(),
+                plugin.getConfigManager().getTransport());
+        this.timer = new HashedWheelTimer(new DefaultThreadFactory("SimpleBot-Timer", true));
+        this.connectExecutor = new ConnectExecutor(plugin.getConfigManager().getMaxConcurrentConnects());
+        this.serverSelector = new ServerSelector(timer, plugin.getConfigManager().getServers(),
+                plugin.getConfigManager().getServerProbeInterval(), plugin.getConfigManager().getConnectionTimeout());
+        this.tokenCache = new TokenCache(new File(plugin.getDataFolder(), "auth"));
+        long breakerOpenMillis = TimeUnit.SECONDS.toMillis(plugin.getConfigManager().getBreakerOpenSeconds());
+        this.authGuard = new AuthGuard(
+                new TokenBucket(plugin.getConfigManager().getAuthBurst(), plugin.getConfigManager().getAuthRequestsPerMinute()),
+                new CircuitBreaker("auth", plugin.getConfigManager().getBreakerFailureThreshold(), breakerOpenMillis));
+        this.connectBreaker = new CircuitBreaker("connect",
+                plugin.getConfigManager().getBreakerFailureThreshold(), breakerOpenMillis);
+        this.sessionRefresher = new SessionRefresher(timer, tokenCache, metrics.getAuth(), authGuard);
+    }
+
+    public void initialize() {
+        eventLoop.install();
+        tokenCache.load();
+        serverSelector.start();
+
+        for (BotAccount account : plugin.getConfigManager().getAccounts().values()) {
+            MinecraftBot bot = new MinecraftBot(plugin, this, account);
+            bot.addStateListener(sessionRefresher);
+            bots.put(account.getName(), bot);
+        }
+
+        BotLogger.info("Bot fleet initialized with " + bots.size() + " bot(s)");
+    }
+
+    public MinecraftBot getBot(String name) {
+        return bots.get(name);
+    }
+
+    public Collection<MinecraftBot> getBots() {
+        return Collections.unmodifiableCollection(bots.values());
+    }
+
+    public Set<String> getBotNames() {
+        return Collections.unmodifiableSet(bots.keySet());
+    }
+
+    public int size() {
+        return bots.size();
+    }
+
+    public long getOnlineCount() {
+        return bots.values().stream().filter(MinecraftBot::isConnected).count();
+    }
+
+    public void shutdown(String reason) {
+        for (MinecraftBot bot : bots.values()) {
+            if (bot.getState().isActive()) {
+                bot.disconnect(reason);
+            }
+        }
+        bots.clear();
+
+        serverSelector.stop();
+        sessionRefresher.shutdown();
+        AuthHttp.shutdown();
+        connectExecutor.shutdown();
+        timer.stop();
+        eventLoop.shutdown();
+        BotLogger.info("Bot fleet shut down");
+    }
+}
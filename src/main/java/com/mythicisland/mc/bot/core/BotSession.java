@@ -25,18 +25,28 @@ package com.mythicisland.mc.bot.core;
 
 import com.github.steveice10.mc.auth.data.GameProfile;
 import com.github.steveice10.mc.protocol.data.game.entity.player.GameMode;
+import com.mythicisland.mc.bot.metrics.KeepAliveStats;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Setter;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 @Data
 public class BotSession {
 
     private String serverHost;
     private int serverPort;
-    private LocalDateTime connectTime;
-    private LocalDateTime lastActivity;
+    @Setter(AccessLevel.NONE)
+    private volatile LocalDateTime connectTime;
+    @Setter(AccessLevel.NONE)
+    private volatile long connectNanos;
+    @Setter(AccessLevel.NONE)
+    private volatile long lastActivityNanos;
 
     private GameProfile gameProfile;
     private UUID sessionId;
@@ -53,33 +63,87 @@ public class BotSession {
     private int food = 20;
     private float experience = 0.0f;
 
-    private long packetsReceived = 0;
-    private long packetsSent = 0;
-    private long lastKeepAlive = 0;
+    private final LongAdder packetsReceived = new LongAdder();
+    private final LongAdder packetsSent = new LongAdder();
+    private volatile long lastKeepAlive = 0;
+    private final KeepAliveStats keepAliveStats = new KeepAliveStats();
 
     private String lastDisconnectReason;
     private int reconnectAttempts = 0;
 
     public BotSession() {
-        this.connectTime = LocalDateTime.now();
-        this.lastActivity = LocalDateTime.now();
+        markConnected();
         this.sessionId = UUID.randomUUID();
     }
 
+    public void markConnected() {
+        long now = System.nanoTime();
+        this.connectTime = LocalDateTime.now();
+        this.connectNanos = now;
+        this.lastActivityNanos = now;
+        keepAliveStats.startConnection();
+    }
+
+    public void setConnectTime(LocalDateTime connectTime) {
+        this.connectTime = connectTime;
+        this.connectNanos = System.nanoTime() - Duration.between(connectTime, LocalDateTime.now()).toNanos();
+    }
+
     public void updateActivity() {
-        this.lastActivity = LocalDateTime.now();
+        this.lastActivityNanos = System.nanoTime();
     }
 
     public void incrementPacketsReceived() {
-        this.packetsReceived++;
+        packetsReceived.increment();
         updateActivity();
     }
 
     public void incrementPacketsSent() {
-        this.packetsSent++;
+        packetsSent.increment();
         updateActivity();
     }
 
+    public long getPacketsReceived() {
+        return packetsReceived.sum();
+    }
+
+    public long getPacketsSent() {
+        return packetsSent.sum();
+    }
+
+    /**
+     * Overwrites the counter. Increments racing with this call may be lost, so only use it while the
+     * session is idle, e.g. when restoring saved statistics.
+     */
+    public void setPacketsReceived(long packetsReceived) {
+        this.packetsReceived.reset();
+        this.packetsReceived.add(packetsReceived);
+    }
+
+    /**
+     * @see #setPacketsReceived(long)
+     */
+    public void setPacketsSent(long packetsSent) {
+        this.packetsSent.reset();
+        this.packetsSent.add(packetsSent);
+    }
+
+    public LocalDateTime getLastActivity() {
+        return LocalDateTime.now().minusNanos(getNanosSinceActivity());
+    }
+
+    public void setLastActivity(LocalDateTime lastActivity) {
+        this.lastActivityNanos = System.nanoTime() - Duration.between(lastActivity, LocalDateTime.now()).toNanos();
+    }
+
+    public long getNanosSinceActivity() {
+        return System.nanoTime() - lastActivityNanos;
+    }
+
+    public long getUptimeSeconds() {
+        return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - connectNanos);
+    }
+
     public void updatePosition(double x, double y, double z, float yaw, float pitch, boolean onGround) {
         this.x = x;
         this.y = y;
@@ -98,8 +162,7 @@ public class BotSession {
     }
 
     public void reset() {
-        this.connectTime = LocalDateTime.now();
-        this.lastActivity = LocalDateTime.now();
+        markConnected();
         this.entityId = 0;
         this.gameMode = null;
         this.x = this.y = this.z = 0;
@@ -108,18 +171,13 @@ public class BotSession {
         this.health = 20;
         this.food = 20;
         this.experience = 0.0f;
-        this.packetsReceived = 0;
-        this.packetsSent = 0;
+        this.packetsReceived.reset();
+        this.packetsSent.reset();
         this.lastKeepAlive = 0;
     }
 
     public String getUptimeString() {
-        if (connectTime == null) {
-            return "0s";
-        }
-
-        LocalDateTime now = LocalDateTime.now();
-        long seconds = java.time.Duration.between(connectTime, now).getSeconds();
+        long seconds = getUptimeSeconds();
 
         if (seconds < 60) {
             return seconds + "s";
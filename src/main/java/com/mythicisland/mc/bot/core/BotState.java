@@ -50,4 +50,15 @@ public enum BotState {
     public boolean isActive() {
         return this == ONLINE || this == CONNECTING || this == RECONNECTING;
     }
+
+    public boolean canTransitionTo(BotState target) {
+        switch (target) {
+            case CONNECTING: return canConnect() || this == RECONNECTING;
+            case ONLINE: return this == CONNECTING;
+            case OFFLINE: return this != OFFLINE;
+            case ERROR: return canDisconnect();
+            case RECONNECTING: return !isActive();
+            default: return false;
+        }
+    }
 }
\ No newline at end of file
@@ -23,241 +23,380 @@
  */
 package com.mythicisland.mc.bot.core;
 
-import com.github.steveice10.mc.auth.service.AuthenticationService;
+import com.github.steveice10.mc.auth.service.SessionService;
+import com.github.steveice10.mc.protocol.MinecraftConstants;
 import com.github.steveice10.mc.protocol.MinecraftProtocol;
 import com.github.steveice10.packetlib.Session;
 import com.github.steveice10.packetlib.tcp.TcpClientSession;
 import com.mythicisland.mc.bot.Main;
-import com.mythicisland.mc.bot.auth.AuthManager;
+import com.mythicisland.mc.bot.auth.AuthSession;
+import com.mythicisland.mc.bot.auth.BotAccount;
+import com.mythicisland.mc.bot.auth.PooledSessionService;
 import com.mythicisland.mc.bot.auth.SessionManager;
+import com.mythicisland.mc.bot.behavior.BotBehavior;
+import com.mythicisland.mc.bot.connection.CircuitBreaker;
+import com.mythicisland.mc.bot.connection.ConnectExecutor;
+import com.mythicisland.mc.bot.connection.ServerEndpoint;
 import com.mythicisland.mc.bot.constants.BotConstants;
 import com.mythicisland.mc.bot.exceptions.AuthenticationException;
 import com.mythicisland.mc.bot.exceptions.ConnectionException;
+import com.mythicisland.mc.bot.protocol.PacketHandlerRegistry;
 import com.mythicisland.mc.bot.protocol.ProtocolManager;
 import com.mythicisland.mc.bot.utils.BotLogger;
+import io.netty.util.Timeout;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Setter;
-import org.bukkit.Bukkit;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.time.LocalDateTime;
-import java.util.Properties;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 @Getter
 public class MinecraftBot {
 
-    private final Main plugin;
+    private static final SessionService SESSION_SERVICE = new PooledSessionService();
 
-    @Setter
-    private BotState state = BotState.OFFLINE;
-    private Session session;
+    private final Main plugin;
+    private final BotFleet fleet;
+    private final BotAccount account;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<BotState> state = new AtomicReference<>(BotState.OFFLINE);
+    @Getter(AccessLevel.NONE)
+    private final List<BotStateListener> stateListeners = new CopyOnWriteArrayList<>();
+    @Getter(AccessLevel.NONE)
+    private final LongAdder transitionCount = new LongAdder();
+    @Getter(AccessLevel.NONE)
+    private final LongAdder rejectedTransitionCount = new LongAdder();
+    private volatile Session session;
     private BotSession botSession;
-    private SessionManager sessionManager;
+    private volatile SessionManager sessionManager;
     private ProtocolManager protocolManager;
 
-    private String serverHost;
-    private int serverPort;
-    private String lastDisconnectReason;
+    private volatile String serverHost;
+    private volatile int serverPort;
+    private volatile String lastDisconnectReason;
     private final AtomicInteger reconnectAttempts = new AtomicInteger(0);
 
-    public MinecraftBot(Main plugin) {
+    public MinecraftBot(Main plugin, BotFleet fleet, BotAccount account) {
         this.plugin = plugin;
+        this.fleet = fleet;
+        this.account = account;
         this.botSession = new BotSession();
         this.protocolManager = new ProtocolManager(this);
-        determineServerInfo();
+        useEndpoint(fleet.getServerSelector().getPreferred());
     }
 
     public CompletableFuture<Void> connect() {
-        if (state == BotState.CONNECTING || state == BotState.ONLINE) {
-            BotLogger.warning("Bot is already connected or connecting!");
+        if (!transitionTo(BotState.CONNECTING)) {
+            BotLogger.warning("[" + getName() + "] Bot is already connected or connecting!");
             return CompletableFuture.completedFuture(null);
         }
 
-        return CompletableFuture.runAsync(() -> {
-            try {
-                setState(BotState.CONNECTING);
-                BotLogger.info("Connecting bot to " + serverHost + ":" + serverPort);
+        return runConnectPipeline();
+    }
+
+    public CompletableFuture<Void> performScheduledReconnect() {
+        if (!transition(BotState.RECONNECTING, BotState.CONNECTING)) {
+            return CompletableFuture.completedFuture(null);
+        }
 
-                performAuthentication();
-                establishConnection();
+        BotLogger.info("[" + getName() + "] Trying automatic reconnect...");
+        return runConnectPipeline();
+    }
 
-                setState(BotState.ONLINE);
-                reconnectAttempts.set(0);
-                BotLogger.info("Bot successfully connected!");
+    private CompletableFuture<Void> runConnectPipeline() {
+        ConnectExecutor connectExecutor = fleet.getConnectExecutor();
+        try {
+            return connectExecutor.submit(() -> {
+                try {
+                    BotLogger.info("[" + getName() + "] Connecting bot...");
 
-            } catch (Exception e) {
-                setState(BotState.ERROR);
-                lastDisconnectReason = e.getMessage();
-                BotLogger.error("Connection failed: " + e.getMessage());
+                    connectExecutor.time(ConnectExecutor.Stage.AUTHENTICATION, this::performAuthentication);
+                    connectExecutor.time(ConnectExecutor.Stage.CONNECTION, this::establishConnection);
 
-                scheduleReconnectIfEnabled();
-            }
-        });
+                    if (!transition(BotState.CONNECTING, BotState.ONLINE)) {
+                        BotLogger.warning("[" + getName() + "] Connection was cancelled while connecting");
+                        closeSession("Connection cancelled");
+                        return;
+                    }
+
+                    // A disconnect that fired before the session was published was ignored by
+                    // onSessionDisconnected, so confirm the session survived until ONLINE.
+                    Session current = session;
+                    if (current == null || !current.isConnected()) {
+                        onSessionDisconnected(current, "Disconnected while logging in");
+                        return;
+                    }
+
+                    BotLogger.info("[" + getName() + "] Bot successfully connected!");
+
+                } catch (Exception e) {
+                    lastDisconnectReason = e.getMessage();
+                    BotLogger.error("[" + getName() + "] Connection failed: " + e.getMessage());
+
+                    if (transition(BotState.CONNECTING, BotState.ERROR)) {
+                        plugin.getConnectionManager().handleConnectionLost(this, classifyFailure(e));
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            transition(BotState.CONNECTING, BotState.OFFLINE);
+            return CompletableFuture.completedFuture(null);
+        }
     }
 
-    public void disconnect(String reason) {
-        if (session != null && session.isConnected()) {
-            session.disconnect(reason);
+    private static String classifyFailure(Exception e) {
+        if (e instanceof ConnectionException connectionException && connectionException.isTimeout()) {
+            return BotConstants.DISCONNECT_REASON_TIMEOUT;
         }
-        setState(BotState.OFFLINE);
+        return e.getMessage();
+    }
+
+    public void disconnect(String reason) {
         lastDisconnectReason = reason;
-        BotLogger.info("Bot disconnected: " + reason);
+        transitionTo(BotState.OFFLINE);
+        closeSession(reason);
+        BotLogger.info("[" + getName() + "] Bot disconnected: " + reason);
     }
 
-    private void performAuthentication() throws AuthenticationException {
-        try {
-            String accountType = plugin.getConfigManager().getAccountType();
-            String emailOrUsername = accountType.equals(BotConstants.ACCOUNT_TYPE_MICROSOFT)
-                    ? plugin.getConfigManager().getAccountEmail()
-                    : plugin.getConfigManager().getAccountUsername();
-            String password = plugin.getConfigManager().getAccountPassword();
+    private void closeSession(String reason) {
+        Session current = session;
+        if (current != null && current.isConnected()) {
+            current.disconnect(reason);
+        }
+    }
 
-            AuthenticationService authService = AuthManager.authenticate(accountType, emailOrUsername, password);
-            sessionManager = new SessionManager(authService);
+    public BotState getState() {
+        return state.get();
+    }
 
-            if (!sessionManager.isSessionValid()) {
-                throw new AuthenticationException("Session is invalid after authentication");
-            }
+    public boolean transition(BotState from, BotState to) {
+        if (!from.canTransitionTo(to) || !state.compareAndSet(from, to)) {
+            rejectedTransitionCount.increment();
+            return false;
+        }
 
-            botSession.setGameProfile(authService.getSelectedProfile());
-            botSession.setAccessToken(authService.getAccessToken());
+        onTransition(from, to);
+        return true;
+    }
 
-        } catch (Exception e) {
-            throw new AuthenticationException("Authentication failed", e);
+    public boolean transitionTo(BotState to) {
+        while (true) {
+            BotState current = state.get();
+            if (!current.canTransitionTo(to)) {
+                rejectedTransitionCount.increment();
+                return false;
+            }
+
+            if (state.compareAndSet(current, to)) {
+                onTransition(current, to);
+                return true;
+            }
         }
     }
 
-    private void establishConnection() throws ConnectionException {
-        try {
-            MinecraftProtocol protocol;
-            if (sessionManager.getAuthService().getSelectedProfile() != null) {
-                protocol = new MinecraftProtocol(sessionManager.getAuthService().getSelectedProfile(),
-                        sessionManager.getAuthService().getAccessToken());
-            } else {
-                protocol = new MinecraftProtocol(sessionManager.getAuthService().getUsername());
-            }
+    private void onTransition(BotState from, BotState to) {
+        transitionCount.increment();
+        BotLogger.debug("[{}] State {} -> {}", getName(), from, to);
 
-            session = new TcpClientSession(serverHost, serverPort, protocol);
+        for (BotStateListener listener : stateListeners) {
+            try {
+                listener.onStateChange(this, from, to);
+            } catch (Exception e) {
+                BotLogger.error("[" + getName() + "] State listener failed: " + e.getMessage());
+            }
+        }
+    }
 
-            protocolManager.setupSessionListeners(session);
+    public void addStateListener(BotStateListener listener) {
+        stateListeners.add(listener);
+    }
 
-            session.connect();
+    public void removeStateListener(BotStateListener listener) {
+        stateListeners.remove(listener);
+    }
 
-            botSession.setServerHost(serverHost);
-            botSession.setServerPort(serverPort);
-            botSession.setConnectTime(LocalDateTime.now());
+    public long getTransitionCount() {
+        return transitionCount.sum();
+    }
 
-        } catch (Exception e) {
-            throw new ConnectionException("Failed to connect to server", e);
-        }
+    public long getRejectedTransitionCount() {
+        return rejectedTransitionCount.sum();
     }
 
-    private void determineServerInfo() {
+    private void performAuthentication() throws AuthenticationException {
         try {
-            this.serverHost = getServerHost();
-            this.serverPort = getServerPort();
-            BotLogger.debug("Server info determined: " + serverHost + ":" + serverPort);
+            AuthSession authSession = fleet.getSessionRefresher().authenticate(account, false).join();
+            sessionManager = new SessionManager(account, authSession, fleet.getTokenCache());
+
+            if (!sessionManager.isSessionValid()) {
+                throw new AuthenticationException("Session is invalid after authentication");
+            }
+
+            botSession.setGameProfile(authSession.getProfile());
+            botSession.setAccessToken(authSession.getAccessToken());
+            botSession.setRefreshToken(authSession.getRefreshToken());
+
+        } catch (CompletionException e) {
+            throw new AuthenticationException("Authentication failed", e.getCause());
         } catch (Exception e) {
-            BotLogger.error("Error determining server info: " + e.getMessage());
-            this.serverHost = BotConstants.DEFAULT_SERVER_HOST;
-            this.serverPort = BotConstants.DEFAULT_MINECRAFT_PORT;
+            throw new AuthenticationException("Authentication failed", e);
         }
     }
 
-    private String getServerHost() {
+    /**
+     * Tries the fleet's endpoints from the healthiest down and stays on the first one that accepts the
+     * connection. A failing endpoint is marked unhealthy so other bots skip it as well, and a successful
+     * connect marks it healthy again. A server that is reached but kicks the bot during login is neither.
+     * When every endpoint keeps failing, the fleet's connect breaker opens and attempts are rejected up front.
+     */
+    private void establishConnection() throws ConnectionException {
+        CircuitBreaker breaker = fleet.getConnectBreaker();
+        if (!breaker.tryAcquire()) {
+            throw new ConnectionException("Connections paused after repeated failures, retrying in "
+                    + TimeUnit.MILLISECONDS.toSeconds(breaker.getRemainingOpenMillis()) + "s");
+        }
+
         try {
-            String serverIp = Bukkit.getServer().getIp();
-            if (serverIp != null && !serverIp.isEmpty() && !serverIp.equals("0.0.0.0")) {
-                BotLogger.debug("Server IP from Bukkit: " + serverIp);
-                return serverIp;
+            connectToFirstAvailable();
+            breaker.recordSuccess();
+        } catch (ConnectionException e) {
+            if (e.isRejected()) {
+                breaker.recordSuccess();
+            } else if (state.get() == BotState.CONNECTING) {
+                breaker.recordFailure();
+            } else {
+                breaker.release();
             }
-        } catch (Exception e) {
-            BotLogger.debug("Bukkit server IP not available: " + e.getMessage());
+            throw e;
+        } catch (RuntimeException e) {
+            // Not a transport failure, e.g. the server refused the session token.
+            breaker.release();
+            throw e;
         }
+    }
 
-        try {
-            File serverProps = new File("server.properties");
-            if (serverProps.exists()) {
-                Properties props = new Properties();
-                try (FileInputStream fis = new FileInputStream(serverProps)) {
-                    props.load(fis);
-                    String serverIp = props.getProperty("server-ip", "").trim();
-                    if (!serverIp.isEmpty()) {
-                        BotLogger.debug("Server IP from server.properties: " + serverIp);
-                        return serverIp;
-                    }
+    private void connectToFirstAvailable() throws ConnectionException {
+        ConnectionException lastFailure = null;
+
+        for (ServerEndpoint endpoint : fleet.getServerSelector().getCandidates()) {
+            if (state.get() != BotState.CONNECTING) {
+                throw new ConnectionException("Connection cancelled");
+            }
+
+            try {
+                connectTo(endpoint);
+                endpoint.recordConnectSuccess();
+                return;
+            } catch (ConnectionException e) {
+                if (!e.isRejected()) {
+                    endpoint.recordFailure();
                 }
+                lastFailure = e;
+                BotLogger.warning("[" + getName() + "] " + e.getMessage() + ", trying next server");
             }
-        } catch (Exception e) {
-            BotLogger.debug("Could not read server.properties for IP: " + e.getMessage());
         }
 
-        BotLogger.debug("Using localhost as fallback");
-        return BotConstants.DEFAULT_SERVER_HOST;
+        throw lastFailure != null ? lastFailure : new ConnectionException("No server available");
     }
 
-    private int getServerPort() {
+    /**
+     * Connects to {@code endpoint} without blocking on the socket: TCP connect, handshake and login run on
+     * the event loop, and this thread only waits for login success. The wait is bounded by
+     * {@code connection-timeout}; on expiry the session is dropped and a timeout is reported.
+     */
+    private void connectTo(ServerEndpoint endpoint) throws ConnectionException {
+        Session candidate = null;
+        Timeout deadline = null;
         try {
-            int port = Bukkit.getServer().getPort();
-            if (port > 0) {
-                BotLogger.debug("Server port from Bukkit: " + port);
-                return port;
+            AuthSession authSession = sessionManager.getSession();
+            MinecraftProtocol protocol = new MinecraftProtocol(authSession.getProfile(), authSession.getAccessToken());
+            int timeoutSeconds = plugin.getConfigManager().getConnectionTimeout();
+
+            useEndpoint(endpoint);
+            BotLogger.info("[" + getName() + "] Connecting to " + getServerInfo());
+
+            // Only the published session may report disconnects, so a failed attempt here does not
+            // trigger a reconnect while the remaining endpoints are still being tried.
+            candidate = new TcpClientSession(serverHost, serverPort, protocol);
+            candidate.setFlag(MinecraftConstants.SESSION_SERVICE_KEY, SESSION_SERVICE);
+            candidate.setConnectTimeout(timeoutSeconds);
+            protocolManager.setupSessionListeners(candidate);
+            CompletableFuture<Void> loggedIn = protocolManager.awaitLogin(candidate);
+
+            deadline = fleet.getTimer().newTimeout(t -> loggedIn.completeExceptionally(ConnectionException.timeout(
+                            "Timed out connecting to " + endpoint + " after " + timeoutSeconds + "s")),
+                    timeoutSeconds, TimeUnit.SECONDS);
+            candidate.connect(false);
+            loggedIn.join();
+
+            // Publish first, then check: a disconnect after this point reaches onSessionDisconnected,
+            // one before it has already closed the channel.
+            session = candidate;
+            if (!candidate.isConnected()) {
+                session = null;
+                throw new ConnectionException("Could not reach " + endpoint);
             }
-        } catch (Exception e) {
-            BotLogger.debug("Bukkit server port not available: " + e.getMessage());
-        }
 
-        try {
-            File serverProps = new File("server.properties");
-            if (serverProps.exists()) {
-                Properties props = new Properties();
-                try (FileInputStream fis = new FileInputStream(serverProps)) {
-                    props.load(fis);
-                    String portStr = props.getProperty("server-port", "25565").trim();
-                    int port = Integer.parseInt(portStr);
-                    BotLogger.debug("Server port from server.properties: " + port);
-                    return port;
-                }
+            botSession.setServerHost(serverHost);
+            botSession.setServerPort(serverPort);
+            botSession.markConnected();
+
+        } catch (CompletionException e) {
+            releaseCandidate(candidate);
+            if (e.getCause() instanceof ConnectionException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof AuthenticationException cause) {
+                throw cause;
             }
+            throw new ConnectionException("Failed to connect to " + endpoint, e.getCause());
+        } catch (ConnectionException e) {
+            throw e;
         } catch (Exception e) {
-            BotLogger.debug("Could not read server.properties for port: " + e.getMessage());
+            releaseCandidate(candidate);
+            throw new ConnectionException("Failed to connect to " + endpoint, e);
+        } finally {
+            if (deadline != null) {
+                deadline.cancel();
+            }
         }
-
-        BotLogger.debug("Using default port 25565");
-        return BotConstants.DEFAULT_MINECRAFT_PORT;
     }
 
-    private void scheduleReconnectIfEnabled() {
-        if (!plugin.getConfigManager().shouldAutoReconnect()) {
-            return;
+    private static void releaseCandidate(Session candidate) {
+        if (candidate != null) {
+            candidate.disconnect("Connection attempt abandoned");
         }
+    }
 
-        int maxAttempts = plugin.getConfigManager().getMaxReconnectAttempts();
-        int currentAttempts = reconnectAttempts.incrementAndGet();
-
-        if (currentAttempts > maxAttempts) {
-            BotLogger.error("Maximum number of reconnect attempts reached (" + maxAttempts + ")");
-            return;
-        }
+    private void useEndpoint(ServerEndpoint endpoint) {
+        this.serverHost = endpoint.getHost();
+        this.serverPort = endpoint.getPort();
+    }
 
-        int delay = plugin.getConfigManager().getReconnectDelaySeconds();
-        BotLogger.info("Scheduling reconnect in " + delay + " seconds (attempt " + currentAttempts + "/" + maxAttempts + ")");
+    public String getName() {
+        return account.getName();
+    }
 
-        setState(BotState.RECONNECTING);
+    public PacketHandlerRegistry getPacketRegistry() {
+        return protocolManager.getPacketHandler().getRegistry();
+    }
 
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            if (state == BotState.RECONNECTING) {
-                BotLogger.info("Trying automatic reconnect...");
-                connect();
-            }
-        }, delay * 20L);
+    public void registerBehavior(BotBehavior behavior) {
+        behavior.registerPacketHandlers(this, getPacketRegistry());
+        BotLogger.debug("[" + getName() + "] Behavior registered: " + behavior.getName());
     }
 
     public boolean isConnected() {
-        return state == BotState.ONLINE && session != null && session.isConnected();
+        Session current = session;
+        return state.get() == BotState.ONLINE && current != null && current.isConnected();
     }
 
     public String getServerInfo() {
@@ -272,28 +411,23 @@ public class MinecraftBot {
         return botSession.getUptimeString();
     }
 
-    public void onSessionDisconnected(String reason) {
-        setState(BotState.OFFLINE);
+    public void onSessionDisconnected(Session source, String reason) {
+        if (source != session) {
+            return;
+        }
+
+        BotState previous = state.get();
+        if (!previous.canDisconnect() || !transition(previous, BotState.OFFLINE)) {
+            return;
+        }
+
         lastDisconnectReason = reason;
-        BotLogger.warning("Bot disconnected: " + reason);
+        BotLogger.warning("[" + getName() + "] Bot disconnected: " + reason);
 
-        scheduleReconnectIfEnabled();
+        plugin.getConnectionManager().handleConnectionLost(this, reason);
     }
 
     public void refreshSessionIfNeeded() {
-        if (sessionManager != null && sessionManager.needsRefresh()) {
-            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-                try {
-                    if (sessionManager.refreshSession()) {
-                        BotLogger.debug("Session successfully refreshed");
-                    }
-                } catch (Exception e) {
-                    BotLogger.error("Session refresh failed: " + e.getMessage());
-                    if (isConnected()) {
-                        disconnect("Session expired");
-                    }
-                }
-            });
-        }
+        fleet.getSessionRefresher().refreshIfNeeded(this);
     }
 }
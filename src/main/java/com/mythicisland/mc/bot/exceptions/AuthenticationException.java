@@ -25,6 +25,8 @@ package com.mythicisland.mc.bot.exceptions;
 
 public class AuthenticationException extends BotException {
 
+    private static final String REJECTED_CODE = "AUTH_REJECTED";
+
     public AuthenticationException(String message) {
         super(message, "AUTH_FAILED");
     }
@@ -32,4 +34,24 @@ public class AuthenticationException extends BotException {
     public AuthenticationException(String message, Throwable cause) {
         super(message, cause, "AUTH_FAILED");
     }
+
+    private AuthenticationException(String message, Throwable cause, String errorCode) {
+        super(message, cause, errorCode);
+    }
+
+    /**
+     * The backend answered and definitively refused the credentials or token (401/403, {@code invalid_grant}).
+     * Anything else, such as timeouts or 5xx responses, is transient and worth retrying with the same token.
+     */
+    public static AuthenticationException rejected(String message) {
+        return new AuthenticationException(message, null, REJECTED_CODE);
+    }
+
+    public static AuthenticationException rejected(String message, Throwable cause) {
+        return new AuthenticationException(message, cause, REJECTED_CODE);
+    }
+
+    public boolean isRejected() {
+        return REJECTED_CODE.equals(getErrorCode());
+    }
 }
\ No newline at end of file
@@ -23,13 +23,27 @@
  */
 package com.mythicisland.mc.bot.exceptions;
 
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
 public class ConfigurationException extends BotException {
 
+    private final List<String> errors;
+
     public ConfigurationException(String message) {
         super(message, "CONFIG_INVALID");
+        this.errors = List.of(message);
     }
 
     public ConfigurationException(String message, Throwable cause) {
         super(message, cause, "CONFIG_INVALID");
+        this.errors = List.of(message);
+    }
+
+    public ConfigurationException(List<String> errors) {
+        super("Invalid configuration: " + String.join("; ", errors), "CONFIG_INVALID");
+        this.errors = List.copyOf(errors);
     }
 }
\ No newline at end of file
@@ -25,6 +25,9 @@ package com.mythicisland.mc.bot.exceptions;
 
 public class ConnectionException extends BotException {
 
+    private static final String TIMEOUT_CODE = "CONNECTION_TIMEOUT";
+    private static final String REJECTED_CODE = "CONNECTION_REJECTED";
+
     public ConnectionException(String message) {
         super(message, "CONNECTION_FAILED");
     }
@@ -32,4 +35,28 @@ public class ConnectionException extends BotException {
     public ConnectionException(String message, Throwable cause) {
         super(message, cause, "CONNECTION_FAILED");
     }
+
+    private ConnectionException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+
+    public static ConnectionException timeout(String message) {
+        return new ConnectionException(message, TIMEOUT_CODE);
+    }
+
+    public boolean isTimeout() {
+        return TIMEOUT_CODE.equals(getErrorCode());
+    }
+
+    /**
+     * The server was reached but refused the login, e.g. a whitelist or full-server kick. Says nothing
+     * about the endpoint's health.
+     */
+    public static ConnectionException rejected(String message) {
+        return new ConnectionException(message, REJECTED_CODE);
+    }
+
+    public boolean isRejected() {
+        return REJECTED_CODE.equals(getErrorCode());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.metrics;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * How bots obtained their session tokens: reused from the token cache, refreshed with a cached
+ * token, or through a full credential login.
+ */
+public class AuthMetrics {
+
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder fullLogins = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    @Getter
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    public void recordCacheHit(long nanos) {
+        cacheHits.increment();
+        latency.record(nanos);
+    }
+
+    public void recordRefresh(long nanos) {
+        refreshes.increment();
+        latency.record(nanos);
+    }
+
+    public void recordFullLogin(long nanos) {
+        fullLogins.increment();
+        latency.record(nanos);
+    }
+
+    public void recordFailure() {
+        failures.increment();
+    }
+
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    public long getRefreshes() {
+        return refreshes.sum();
+    }
+
+    public long getFullLogins() {
+        return fullLogins.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * Share of successful authentications that did not need the account password, in percent.
+     */
+    public long getHitRatePercent() {
+        long hits = getCacheHits() + getRefreshes();
+        long total = hits + getFullLogins();
+        return total == 0 ? 0 : hits * 100 / total;
+    }
+
+    public void reset() {
+        cacheHits.reset();
+        refreshes.reset();
+        fullLogins.reset();
+        failures.reset();
+        latency.reset();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.metrics;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request counts, failures, new connections and latency per remote host. New connections next to
+ * the request count show how well the shared client reuses pooled connections.
+ */
+public class HttpMetrics {
+
+    private final Map<String, HostStats> hosts = new ConcurrentHashMap<>();
+
+    public HostStats statsFor(String host) {
+        return hosts.computeIfAbsent(host, HostStats::new);
+    }
+
+    public List<HostStats> getStatsByCount() {
+        List<HostStats> snapshot = new ArrayList<>(hosts.values());
+        snapshot.sort(Comparator.comparingLong(HostStats::getCount).reversed());
+        return snapshot;
+    }
+
+    public void reset() {
+        hosts.values().forEach(HostStats::reset);
+    }
+
+    @Getter
+    public static class HostStats {
+
+        private final String host;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        @Getter(AccessLevel.NONE)
+        private final LongAdder errors = new LongAdder();
+        @Getter(AccessLevel.NONE)
+        private final LongAdder connections = new LongAdder();
+
+        HostStats(String host) {
+            this.host = host;
+        }
+
+        public void record(long nanos) {
+            latency.record(nanos);
+        }
+
+        public void recordError() {
+            errors.increment();
+        }
+
+        public void recordConnection() {
+            connections.increment();
+        }
+
+        public long getCount() {
+            return latency.getCount();
+        }
+
+        public long getErrorCount() {
+            return errors.sum();
+        }
+
+        public long getConnectionCount() {
+            return connections.sum();
+        }
+
+        void reset() {
+            latency.reset();
+            errors.reset();
+            connections.reset();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.metrics;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keep-alive timing of one bot. The server picks the send times, so the bot sees two things: how
+ * regularly keep-alives arrive (interval and jitter, the deviation between consecutive intervals as in
+ * RFC 3550) and how long it takes from arrival until the response is on the wire. Each is kept as an
+ * EWMA for a stable current value and as a histogram for the tail.
+ * <p>
+ * Arrivals and responses are recorded on the bot's event loop, while {@link #startConnection()} runs on
+ * the connect thread. The arrival state is therefore only touched under this object's lock, which is
+ * uncontended at keep-alive rates. The averages are volatile, so {@code /bot status} can read them from
+ * any thread.
+ */
+public class KeepAliveStats {
+
+    private static final double WEIGHT = 1.0 / 16;
+
+    @Getter
+    private final LatencyHistogram jitter = new LatencyHistogram();
+    @Getter
+    private final LatencyHistogram responseLatency = new LatencyHistogram();
+    private final LongAdder stalls = new LongAdder();
+
+    private long lastArrivalNanos;
+    private long lastIntervalNanos = -1;
+    private volatile long averageIntervalNanos = -1;
+    private volatile long averageJitterNanos;
+    private volatile long averageResponseNanos = -1;
+
+    public synchronized void recordArrival(long arrivalNanos) {
+        if (lastArrivalNanos != 0) {
+            long interval = arrivalNanos - lastArrivalNanos;
+            averageIntervalNanos = ewma(averageIntervalNanos, interval);
+
+            if (lastIntervalNanos >= 0) {
+                long deviation = Math.abs(interval - lastIntervalNanos);
+                jitter.record(deviation);
+                averageJitterNanos = Math.round(averageJitterNanos + WEIGHT * (deviation - averageJitterNanos));
+            }
+            lastIntervalNanos = interval;
+        }
+        lastArrivalNanos = arrivalNanos;
+    }
+
+    public void recordResponse(long nanos) {
+        responseLatency.record(nanos);
+        averageResponseNanos = ewma(averageResponseNanos, nanos);
+    }
+
+    public void recordStall() {
+        stalls.increment();
+    }
+
+    /**
+     * Forgets the last arrival so the gap across a reconnect is not counted as an interval.
+     */
+    public synchronized void startConnection() {
+        lastArrivalNanos = 0;
+        lastIntervalNanos = -1;
+    }
+
+    public boolean hasSamples() {
+        return responseLatency.getCount() > 0;
+    }
+
+    public long getAverageIntervalMillis() {
+        long average = averageIntervalNanos;
+        return average < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(average);
+    }
+
+    public long getAverageJitterMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(averageJitterNanos);
+    }
+
+    public long getAverageResponseMicros() {
+        long average = averageResponseNanos;
+        return average < 0 ? -1 : TimeUnit.NANOSECONDS.toMicros(average);
+    }
+
+    public long getStalls() {
+        return stalls.sum();
+    }
+
+    private static long ewma(long average, long sample) {
+        return average < 0 ? sample : Math.round(average + WEIGHT * (sample - average));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.metrics;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class PacketMetrics {
+
+    private final Map<Class<?>, PacketStats> knownStats = new ConcurrentHashMap<>();
+    private final ClassValue<PacketStats> stats = new ClassValue<>() {
+        @Override
+        protected PacketStats computeValue(Class<?> type) {
+            PacketStats created = new PacketStats(type);
+            knownStats.put(type, created);
+            return created;
+        }
+    };
+
+    public PacketStats statsFor(Class<?> packetType) {
+        return stats.get(packetType);
+    }
+
+    public List<PacketStats> getStatsByCount() {
+        List<PacketStats> snapshot = new ArrayList<>(knownStats.values());
+        snapshot.sort(Comparator.comparingLong(PacketStats::getCount).reversed());
+        return snapshot;
+    }
+
+    public void reset() {
+        knownStats.values().forEach(PacketStats::reset);
+    }
+
+    @Getter
+    public static class PacketStats {
+
+        private final Class<?> packetType;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        @Getter(AccessLevel.NONE)
+        private final LongAdder errors = new LongAdder();
+
+        PacketStats(Class<?> packetType) {
+            this.packetType = packetType;
+        }
+
+        public void record(long nanos) {
+            latency.record(nanos);
+        }
+
+        public void recordError() {
+            errors.increment();
+        }
+
+        public long getCount() {
+            return latency.getCount();
+        }
+
+        public long getErrorCount() {
+            return errors.sum();
+        }
+
+        public String getName() {
+            return packetType.getSimpleName();
+        }
+
+        void reset() {
+            latency.reset();
+            errors.reset();
+        }
+    }
+}
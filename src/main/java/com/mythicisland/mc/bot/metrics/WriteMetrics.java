@@ -0,0 +1,67 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * How outbound packets reached the socket: how many were written, and how many flushes (and thus
+ * syscalls) carried them, split into coalesced flushes and immediate ones for latency-critical packets.
+ */
+public class WriteMetrics {
+
+    private final LongAdder packets = new LongAdder();
+    private final LongAdder coalescedFlushes = new LongAdder();
+    private final LongAdder immediateFlushes = new LongAdder();
+
+    public void recordPacket() {
+        packets.increment();
+    }
+
+    public void recordCoalescedFlush() {
+        coalescedFlushes.increment();
+    }
+
+    public void recordImmediateFlush() {
+        immediateFlushes.increment();
+    }
+
+    public long getPackets() {
+        return packets.sum();
+    }
+
+    public long getCoalescedFlushes() {
+        return coalescedFlushes.sum();
+    }
+
+    public long getImmediateFlushes() {
+        return immediateFlushes.sum();
+    }
+
+    public void reset() {
+        packets.reset();
+        coalescedFlushes.reset();
+        immediateFlushes.reset();
+    }
+}
@@ -29,44 +29,53 @@ import com.github.steveice10.mc.protocol.packet.ingame.clientbound.entity.player
 import com.github.steveice10.mc.protocol.packet.login.clientbound.ClientboundGameProfilePacket;
 import com.github.steveice10.packetlib.packet.Packet;
 import com.mythicisland.mc.bot.core.MinecraftBot;
+import com.mythicisland.mc.bot.metrics.PacketMetrics;
 import com.mythicisland.mc.bot.protocol.handlers.ChatHandler;
 import com.mythicisland.mc.bot.protocol.handlers.KeepAliveHandler;
 import com.mythicisland.mc.bot.protocol.handlers.LoginHandler;
 import com.mythicisland.mc.bot.utils.BotLogger;
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 
-@RequiredArgsConstructor
 public class PacketHandler {
 
     private final MinecraftBot bot;
     private final LoginHandler loginHandler;
     private final KeepAliveHandler keepAliveHandler;
     private final ChatHandler chatHandler;
+    @Getter
+    private final PacketHandlerRegistry registry;
+    private final PacketMetrics inboundMetrics;
 
     public PacketHandler(MinecraftBot bot) {
         this.bot = bot;
         this.loginHandler = new LoginHandler(bot);
         this.keepAliveHandler = new KeepAliveHandler(bot);
         this.chatHandler = new ChatHandler(bot);
-    }
-
-    public void handleIncomingPacket(Packet packet) {
-        BotLogger.packet("Incoming: " + packet.getClass().getSimpleName());
-
-        if (packet instanceof ClientboundGameProfilePacket) {
-            loginHandler.handleLoginSuccess((ClientboundGameProfilePacket) packet);
+        this.registry = new PacketHandlerRegistry();
+        this.inboundMetrics = bot.getFleet().getMetrics().getInbound();
 
-        } else if (packet instanceof ClientboundKeepAlivePacket) {
-            keepAliveHandler.handleKeepAlive((ClientboundKeepAlivePacket) packet);
+        registerDefaultHandlers();
+    }
 
-        } else if (packet instanceof ClientboundSystemChatPacket) {
-            chatHandler.handleSystemChat((ClientboundSystemChatPacket) packet);
+    private void registerDefaultHandlers() {
+        registry.register(ClientboundKeepAlivePacket.class, keepAliveHandler::handleKeepAlive);
+        registry.register(ClientboundPlayerPositionPacket.class, this::handlePlayerPosition);
+        registry.register(ClientboundSystemChatPacket.class, chatHandler::handleSystemChat);
+        registry.register(ClientboundGameProfilePacket.class, loginHandler::handleLoginSuccess);
+    }
 
-        } else if (packet instanceof ClientboundPlayerPositionPacket) {
-            handlePlayerPosition((ClientboundPlayerPositionPacket) packet);
+    public void handleIncomingPacket(Packet packet) {
+        BotLogger.packet(packet.getClass());
 
-        } else {
-            BotLogger.debug("Unhandled packet: " + packet.getClass().getSimpleName());
+        PacketMetrics.PacketStats stats = inboundMetrics.statsFor(packet.getClass());
+        long start = System.nanoTime();
+        try {
+            registry.dispatch(packet);
+        } catch (RuntimeException e) {
+            stats.recordError();
+            throw e;
+        } finally {
+            stats.record(System.nanoTime() - start);
         }
     }
 
@@ -80,7 +89,8 @@ public class PacketHandler {
                 false
         );
 
-        BotLogger.debug("Position updated: " +
-                String.format("%.2f, %.2f, %.2f", packet.getX(), packet.getY(), packet.getZ()));
+        if (BotLogger.isDebugEnabled()) {
+            BotLogger.debug(String.format("Position updated: %.2f, %.2f, %.2f", packet.getX(), packet.getY(), packet.getZ()));
+        }
     }
 }
@@ -0,0 +1,159 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.protocol;
+
+import com.github.steveice10.packetlib.packet.Packet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Maps packet classes to their listeners.
+ * <p>
+ * Lookups go through a {@link ClassValue}, so dispatching a packet costs one cached lookup on its
+ * concrete class no matter how many handlers are registered. Listeners registered for a
+ * superclass or interface also receive subtypes. Packets without any listener only bump a
+ * per-type counter.
+ */
+public class PacketHandlerRegistry {
+
+    private static final PacketListener<?>[] NO_LISTENERS = new PacketListener<?>[0];
+    private static final Resolution UNRESOLVED = new Resolution(-1, NO_LISTENERS);
+
+    private final Map<Class<?>, List<PacketListener<?>>> registrations = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Binding> unhandledBindings = new ConcurrentHashMap<>();
+    private final AtomicInteger version = new AtomicInteger();
+
+    private final ClassValue<Binding> bindings = new ClassValue<>() {
+        @Override
+        protected Binding computeValue(Class<?> type) {
+            return new Binding(type);
+        }
+    };
+
+    public <T extends Packet> void register(Class<T> type, PacketListener<? super T> listener) {
+        registrations.computeIfAbsent(type, key -> new CopyOnWriteArrayList<>()).add(listener);
+        version.incrementAndGet();
+    }
+
+    public <T extends Packet> void unregister(Class<T> type, PacketListener<? super T> listener) {
+        List<PacketListener<?>> listeners = registrations.get(type);
+        if (listeners != null && listeners.remove(listener)) {
+            version.incrementAndGet();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public boolean dispatch(Packet packet) {
+        Binding binding = bindings.get(packet.getClass());
+        PacketListener<?>[] listeners = binding.resolve();
+
+        if (listeners.length == 0) {
+            binding.unhandled.increment();
+            return false;
+        }
+
+        for (PacketListener<?> listener : listeners) {
+            ((PacketListener<Packet>) listener).handle(packet);
+        }
+        return true;
+    }
+
+    public boolean hasListeners(Class<? extends Packet> type) {
+        return bindings.get(type).resolve().length > 0;
+    }
+
+    public Map<Class<?>, Long> getUnhandledCounts() {
+        Map<Class<?>, Long> counts = new ConcurrentHashMap<>();
+        unhandledBindings.forEach((type, binding) -> counts.put(type, binding.unhandled.sum()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    private final class Binding {
+
+        private final Class<?> type;
+        private final LongAdder unhandled = new LongAdder();
+        private volatile Resolution resolution = UNRESOLVED;
+
+        private Binding(Class<?> type) {
+            this.type = type;
+        }
+
+        /**
+         * Listeners and the registry version they were resolved at are published together, so a reader
+         * never pairs a new version with an old listener array. A resolve that loses a race against a
+         * newer one may publish an older version; the next dispatch then just resolves again.
+         */
+        private PacketListener<?>[] resolve() {
+            Resolution current = resolution;
+            int currentVersion = version.get();
+            if (current.version() == currentVersion) {
+                return current.listeners();
+            }
+
+            List<PacketListener<?>> resolved = new ArrayList<>();
+            for (Class<?> candidate : hierarchyOf(type)) {
+                List<PacketListener<?>> registered = registrations.get(candidate);
+                if (registered != null) {
+                    resolved.addAll(registered);
+                }
+            }
+
+            PacketListener<?>[] listeners = resolved.toArray(NO_LISTENERS);
+            resolution = new Resolution(currentVersion, listeners);
+            if (listeners.length == 0) {
+                unhandledBindings.putIfAbsent(type, this);
+            }
+            return listeners;
+        }
+    }
+
+    private record Resolution(int version, PacketListener<?>[] listeners) {
+    }
+
+    private static Set<Class<?>> hierarchyOf(Class<?> type) {
+        Set<Class<?>> hierarchy = new LinkedHashSet<>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            hierarchy.add(current);
+            collectInterfaces(current, hierarchy);
+        }
+        return hierarchy;
+    }
+
+    private static void collectInterfaces(Class<?> type, Set<Class<?>> hierarchy) {
+        for (Class<?> iface : type.getInterfaces()) {
+            if (hierarchy.add(iface)) {
+                collectInterfaces(iface, hierarchy);
+            }
+        }
+    }
+}
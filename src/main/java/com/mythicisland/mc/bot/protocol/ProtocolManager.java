@@ -23,17 +23,41 @@
  */
 package com.mythicisland.mc.bot.protocol;
 
+import com.github.steveice10.mc.auth.exception.request.InvalidCredentialsException;
+import com.github.steveice10.mc.protocol.packet.login.clientbound.ClientboundGameProfilePacket;
 import com.github.steveice10.packetlib.Session;
+import com.github.steveice10.packetlib.event.session.ConnectedEvent;
+import com.github.steveice10.packetlib.event.session.DisconnectedEvent;
 import com.github.steveice10.packetlib.event.session.SessionAdapter;
 import com.github.steveice10.packetlib.packet.Packet;
+import com.github.steveice10.packetlib.tcp.TcpSession;
+import com.mythicisland.mc.bot.auth.SessionManager;
+import com.mythicisland.mc.bot.constants.BotConstants;
 import com.mythicisland.mc.bot.core.MinecraftBot;
+import com.mythicisland.mc.bot.exceptions.AuthenticationException;
+import com.mythicisland.mc.bot.exceptions.ConnectionException;
 import com.mythicisland.mc.bot.utils.BotLogger;
+import io.netty.channel.Channel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
 
 @RequiredArgsConstructor
 public class ProtocolManager {
 
+    /**
+     * Reason packetlib reports when the socket closes without a disconnect packet.
+     */
+    private static final String CONNECTION_CLOSED_REASON = "Connection closed.";
+    private static final List<String> INVALID_SESSION_MARKERS = List.of(
+            "invalid session", "invalid login session", "invalid_session", "invalidsession");
+
     private final MinecraftBot bot;
+    @Getter
     private final PacketHandler packetHandler;
 
     public ProtocolManager(MinecraftBot bot) {
@@ -43,6 +67,12 @@ public class ProtocolManager {
 
     public void setupSessionListeners(Session session) {
         session.addListener(new SessionAdapter() {
+            @Override
+            public void connected(ConnectedEvent event) {
+                installStallDetector(event.getSession());
+                installWriteCoalescer(event.getSession());
+            }
+
             @Override
             public void packetReceived(Session session, Packet packet) {
                 try {
@@ -53,13 +83,103 @@ public class ProtocolManager {
                 }
             }
 
-            public void disconnected(Session session, String reason) {
-                String disconnectReason = reason != null ? reason : "Unknown reason";
+            @Override
+            public void disconnected(DisconnectedEvent event) {
+                String disconnectReason = event.getReason() != null
+                        ? PlainTextComponentSerializer.plainText().serialize(event.getReason())
+                        : "Unknown reason";
                 BotLogger.warning("Session disconnected: " + disconnectReason);
-                bot.onSessionDisconnected(disconnectReason);
+                bot.onSessionDisconnected(event.getSession(), disconnectReason);
             }
         });
 
         BotLogger.debug("Session listener registered");
     }
+
+    /**
+     * Completes once the server accepts the login of {@code session}, and fails when the session
+     * disconnects before that. Register before connecting.
+     * <p>
+     * When the session server or the game server refuses the access token, the bot's cached session is
+     * invalidated and the future fails with a rejected {@link AuthenticationException}, so the next
+     * connect obtains a new token instead of reusing the refused one until it expires.
+     */
+    public CompletableFuture<Void> awaitLogin(Session session) {
+        CompletableFuture<Void> loggedIn = new CompletableFuture<>();
+        session.addListener(new SessionAdapter() {
+            @Override
+            public void packetReceived(Session session, Packet packet) {
+                if (packet instanceof ClientboundGameProfilePacket) {
+                    loggedIn.complete(null);
+                }
+            }
+
+            @Override
+            public void disconnected(DisconnectedEvent event) {
+                String reason = event.getReason() != null
+                        ? PlainTextComponentSerializer.plainText().serialize(event.getReason())
+                        : "Unknown reason";
+                if (!loggedIn.isDone() && isInvalidSession(reason, event.getCause())) {
+                    SessionManager sessionManager = bot.getSessionManager();
+                    if (sessionManager != null) {
+                        sessionManager.invalidateSession();
+                    }
+                    loggedIn.completeExceptionally(AuthenticationException.rejected(
+                            "Session rejected by server: " + reason, event.getCause()));
+                    return;
+                }
+                if (event.getCause() == null && !CONNECTION_CLOSED_REASON.equals(reason)) {
+                    // The server sent a reason of its own: it is up, it just refused this login.
+                    loggedIn.completeExceptionally(ConnectionException.rejected("Kicked during login: " + reason));
+                    return;
+                }
+                loggedIn.completeExceptionally(new ConnectionException("Disconnected during login: " + reason,
+                        event.getCause()));
+            }
+        });
+        return loggedIn;
+    }
+
+    private static boolean isInvalidSession(String reason, Throwable cause) {
+        if (cause instanceof InvalidCredentialsException) {
+            return true;
+        }
+        String normalized = reason.toLowerCase(Locale.ROOT);
+        for (String marker : INVALID_SESSION_MARKERS) {
+            if (normalized.contains(marker)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void installStallDetector(Session session) {
+        if (!(session instanceof TcpSession tcpSession)) {
+            return;
+        }
+
+        Channel channel = tcpSession.getChannel();
+        if (channel != null && channel.pipeline().get(StallDetector.NAME) == null) {
+            channel.pipeline().addFirst(StallDetector.NAME, new StallDetector(bot.getName(), session,
+                    bot.getBotSession().getKeepAliveStats(), BotConstants.READ_TIMEOUT_MS));
+        }
+    }
+
+    /**
+     * Adds a {@link WriteCoalescer} to the session's pipeline when {@code packet-delay-ms} is above zero.
+     * The delay is read per connection, so a changed value applies from the next connect on.
+     */
+    private void installWriteCoalescer(Session session) {
+        int delayMs = bot.getPlugin().getConfigManager().getPacketDelayMs();
+        if (delayMs <= 0 || !(session instanceof TcpSession tcpSession)) {
+            return;
+        }
+
+        Channel channel = tcpSession.getChannel();
+        if (channel != null && channel.pipeline().get(WriteCoalescer.NAME) == null) {
+            channel.pipeline().addLast(WriteCoalescer.NAME,
+                    new WriteCoalescer(delayMs, bot.getFleet().getMetrics().getWrites()));
+            BotLogger.debug("[{}] Outbound writes coalesced every {}ms", bot.getName(), delayMs);
+        }
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.protocol;
+
+import com.github.steveice10.packetlib.Session;
+import com.mythicisland.mc.bot.metrics.KeepAliveStats;
+import com.mythicisland.mc.bot.utils.BotLogger;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drops a connection that has not received a single byte for {@code readTimeoutMillis}. Servers send a
+ * keep-alive every few seconds, so a silent socket means a dead peer or path; tearing it down here puts
+ * the bot on the reconnect path long before TCP retransmission timeouts would notice.
+ * <p>
+ * Sits at the head of the pipeline so any inbound traffic counts, even while decoding falls behind.
+ */
+public class StallDetector extends IdleStateHandler {
+
+    public static final String NAME = "simplebot-stall-detector";
+
+    private final String botName;
+    private final Session session;
+    private final KeepAliveStats stats;
+    private final long readTimeoutMillis;
+
+    public StallDetector(String botName, Session session, KeepAliveStats stats, long readTimeoutMillis) {
+        super(readTimeoutMillis, 0, 0, TimeUnit.MILLISECONDS);
+        this.botName = botName;
+        this.session = session;
+        this.stats = stats;
+        this.readTimeoutMillis = readTimeoutMillis;
+    }
+
+    @Override
+    protected void channelIdle(ChannelHandlerContext ctx, IdleStateEvent event) {
+        if (event.state() != IdleState.READER_IDLE || !event.isFirst()) {
+            return;
+        }
+
+        stats.recordStall();
+        BotLogger.warning("[" + botName + "] Nothing received for " + readTimeoutMillis / 1000
+                + "s, closing stalled connection");
+        session.disconnect("Read timed out after " + readTimeoutMillis / 1000 + "s");
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.protocol;
+
+import com.github.steveice10.mc.protocol.packet.ingame.serverbound.ServerboundKeepAlivePacket;
+import com.github.steveice10.mc.protocol.packet.ingame.serverbound.ServerboundPongPacket;
+import com.github.steveice10.packetlib.packet.Packet;
+import com.mythicisland.mc.bot.metrics.WriteMetrics;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batches the flushes of a bot connection. Packets are still encoded as they are sent, but the flush
+ * that hands them to the socket is deferred by up to {@code packet-delay-ms}, so everything a bot sends
+ * within one interval leaves in a single write.
+ * <p>
+ * Keep-alive and ping responses, and every packet outside the game state (handshake, login), flush
+ * immediately and take the pending batch with them. Sits at the tail of the pipeline so it sees
+ * {@link Packet} objects rather than encoded bytes; all methods run on the channel's event loop.
+ */
+public class WriteCoalescer extends ChannelDuplexHandler {
+
+    public static final String NAME = "simplebot-write-coalescer";
+
+    private static final String INGAME_PACKAGE = "com.github.steveice10.mc.protocol.packet.ingame";
+    private static final Set<Class<?>> URGENT_PACKETS = Set.of(
+            ServerboundKeepAlivePacket.class,
+            ServerboundPongPacket.class
+    );
+
+    private final long delayMillis;
+    private final WriteMetrics metrics;
+
+    private boolean urgentPending;
+    private ScheduledFuture<?> scheduledFlush;
+
+    public WriteCoalescer(long delayMillis, WriteMetrics metrics) {
+        this.delayMillis = delayMillis;
+        this.metrics = metrics;
+    }
+
+    private static boolean isUrgent(Object msg) {
+        if (!(msg instanceof Packet)) {
+            return true;
+        }
+        return URGENT_PACKETS.contains(msg.getClass()) || !msg.getClass().getName().startsWith(INGAME_PACKAGE);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        metrics.recordPacket();
+        if (isUrgent(msg)) {
+            urgentPending = true;
+        }
+        ctx.write(msg, promise);
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) {
+        if (urgentPending) {
+            urgentPending = false;
+            cancelScheduledFlush();
+            metrics.recordImmediateFlush();
+            ctx.flush();
+            return;
+        }
+
+        if (scheduledFlush == null) {
+            scheduledFlush = ctx.executor().schedule(() -> {
+                scheduledFlush = null;
+                metrics.recordCoalescedFlush();
+                ctx.flush();
+            }, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) {
+        // Let a pending batch, usually ending in a disconnect packet, reach the server first.
+        if (cancelScheduledFlush()) {
+            ctx.flush();
+        }
+        ctx.close(promise);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        cancelScheduledFlush();
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        if (cancelScheduledFlush()) {
+            ctx.flush();
+        }
+    }
+
+    private boolean cancelScheduledFlush() {
+        if (scheduledFlush == null) {
+            return false;
+        }
+        scheduledFlush.cancel(false);
+        scheduledFlush = null;
+        return true;
+    }
+}
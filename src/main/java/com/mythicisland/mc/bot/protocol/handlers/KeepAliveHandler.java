@@ -26,25 +26,44 @@ package com.mythicisland.mc.bot.protocol.handlers;
 import com.github.steveice10.mc.protocol.packet.ingame.clientbound.ClientboundKeepAlivePacket;
 import com.github.steveice10.mc.protocol.packet.ingame.serverbound.ServerboundKeepAlivePacket;
 import com.mythicisland.mc.bot.core.MinecraftBot;
+import com.mythicisland.mc.bot.metrics.KeepAliveStats;
+import com.mythicisland.mc.bot.metrics.PacketMetrics;
 import com.mythicisland.mc.bot.utils.BotLogger;
-import lombok.RequiredArgsConstructor;
 
-@RequiredArgsConstructor
 public class KeepAliveHandler {
 
     private final MinecraftBot bot;
+    private final PacketMetrics.PacketStats responseStats;
+
+    public KeepAliveHandler(MinecraftBot bot) {
+        this.bot = bot;
+        this.responseStats = bot.getFleet().getMetrics().getOutbound().statsFor(ServerboundKeepAlivePacket.class);
+    }
 
     public void handleKeepAlive(ClientboundKeepAlivePacket packet) {
+        long arrival = System.nanoTime();
         long keepAliveId = packet.getPingId();
+        KeepAliveStats stats = bot.getBotSession().getKeepAliveStats();
+        stats.recordArrival(arrival);
 
         ServerboundKeepAlivePacket response = new ServerboundKeepAlivePacket(keepAliveId);
 
         if (bot.getSession() != null && bot.getSession().isConnected()) {
-            bot.getSession().send(response);
+            long start = System.nanoTime();
+            try {
+                bot.getSession().send(response);
+            } catch (RuntimeException e) {
+                responseStats.recordError();
+                throw e;
+            } finally {
+                long now = System.nanoTime();
+                responseStats.record(now - start);
+                stats.recordResponse(now - arrival);
+            }
             bot.getBotSession().incrementPacketsSent();
             bot.getBotSession().setLastKeepAlive(System.currentTimeMillis());
 
-            BotLogger.debug("Keep-alive responded: " + keepAliveId);
+            BotLogger.debug("Keep-alive responded: {}", keepAliveId);
         }
     }
 }
@@ -39,6 +39,6 @@ public class LoginHandler {
         bot.getBotSession().setGameProfile(packet.getProfile());
         bot.getBotSession().updateActivity();
 
-        BotLogger.debug("GameProfile set: " + packet.getProfile().getName());
+        BotLogger.debug("GameProfile set: {}", packet.getProfile().getName());
     }
 }
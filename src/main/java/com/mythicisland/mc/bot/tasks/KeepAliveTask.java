@@ -36,25 +36,22 @@ public class KeepAliveTask extends BukkitRunnable {
 
     @Override
     public void run() {
-        MinecraftBot bot = plugin.getBot();
-
-        if (!bot.isConnected()) {
-            return;
+        for (MinecraftBot bot : plugin.getBotFleet().getBots()) {
+            if (bot.isConnected()) {
+                checkBot(bot);
+            }
         }
+    }
 
+    /**
+     * Stalled connections are detected in each bot's pipeline by {@code StallDetector}; this task only
+     * keeps sessions fresh.
+     */
+    private void checkBot(MinecraftBot bot) {
         try {
             bot.refreshSessionIfNeeded();
-
-            long lastKeepAlive = bot.getBotSession().getLastKeepAlive();
-            long timeSinceLastKeepAlive = System.currentTimeMillis() - lastKeepAlive;
-            long keepAliveInterval = plugin.getConfigManager().getKeepAliveInterval() * 1000L;
-
-            if (timeSinceLastKeepAlive > keepAliveInterval * 2) {
-                BotLogger.warning("No Keep-Alive received for a long time - possible connection issues");
-            }
-
         } catch (Exception e) {
-            BotLogger.error("Error in KeepAliveTask: " + e.getMessage());
+            BotLogger.error("[" + bot.getName() + "] Error in KeepAliveTask: " + e.getMessage());
         }
     }
 }
\ No newline at end of file
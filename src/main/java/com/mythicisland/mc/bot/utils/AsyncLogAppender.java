@@ -0,0 +1,209 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.utils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Moves console writes off the calling thread. Entries go into a bounded ring buffer that one
+ * daemon thread drains, so Netty IO threads never wait on the console. When the buffer is full
+ * the {@link OverflowPolicy} decides whether callers block or debug output is sacrificed.
+ */
+public class AsyncLogAppender {
+
+    private static final int DRAIN_BATCH_SIZE = 256;
+    private static final long BLOCK_RETRY_MS = 100;
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum OverflowPolicy {
+        DROP_DEBUG_FIRST("drop-debug-first"),
+        BLOCK("block");
+
+        private final String configName;
+
+        public static OverflowPolicy fromConfig(String value) {
+            for (OverflowPolicy policy : values()) {
+                if (policy.configName.equalsIgnoreCase(value)) {
+                    return policy;
+                }
+            }
+            return DROP_DEBUG_FIRST;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class LogEntry {
+        private final Level level;
+        private final String message;
+        private final Throwable throwable;
+        private final boolean verbose;
+    }
+
+    private final BlockingQueue<LogEntry> buffer;
+    private final Consumer<LogEntry> writer;
+    private final Thread drainThread;
+    @Getter
+    private final int capacity;
+    @Getter
+    private final OverflowPolicy overflowPolicy;
+
+    private final LongAdder droppedVerbose = new LongAdder();
+    private final LongAdder droppedOther = new LongAdder();
+    private volatile boolean running = true;
+
+    public AsyncLogAppender(int capacity, OverflowPolicy overflowPolicy, Consumer<LogEntry> writer) {
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.writer = writer;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.drainThread = Thread.ofPlatform().daemon().name("SimpleBot-Log").start(this::drainLoop);
+    }
+
+    public void append(LogEntry entry) {
+        if (!running) {
+            writer.accept(entry);
+            return;
+        }
+
+        if (buffer.offer(entry)) {
+            return;
+        }
+
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            appendBlocking(entry);
+            return;
+        }
+
+        if (entry.isVerbose()) {
+            droppedVerbose.increment();
+            return;
+        }
+
+        if (evictVerboseEntry() && buffer.offer(entry)) {
+            return;
+        }
+        droppedOther.increment();
+    }
+
+    /**
+     * Waits for room in the buffer, but gives up once shutdown has started: the drain thread may already
+     * be gone, so the entry is written on the calling thread instead of waiting forever.
+     */
+    private void appendBlocking(LogEntry entry) {
+        try {
+            while (running) {
+                if (buffer.offer(entry, BLOCK_RETRY_MS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            droppedOther.increment();
+            return;
+        }
+        writeSafely(entry);
+    }
+
+    private boolean evictVerboseEntry() {
+        Iterator<LogEntry> iterator = buffer.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isVerbose()) {
+                iterator.remove();
+                droppedVerbose.increment();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void drainLoop() {
+        List<LogEntry> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+
+        while (running || !buffer.isEmpty()) {
+            try {
+                LogEntry first = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                buffer.drainTo(batch, DRAIN_BATCH_SIZE - 1);
+                for (LogEntry entry : batch) {
+                    writeSafely(entry);
+                }
+                batch.clear();
+
+            } catch (InterruptedException e) {
+                running = false;
+            }
+        }
+    }
+
+    private void writeSafely(LogEntry entry) {
+        try {
+            writer.accept(entry);
+        } catch (RuntimeException e) {
+            System.err.println("[ERROR] Failed to write log entry: " + e.getMessage());
+        }
+    }
+
+    public int getQueuedCount() {
+        return buffer.size();
+    }
+
+    public long getDroppedVerboseCount() {
+        return droppedVerbose.sum();
+    }
+
+    public long getDroppedOtherCount() {
+        return droppedOther.sum();
+    }
+
+    public void shutdown() {
+        running = false;
+        try {
+            drainThread.join(TimeUnit.SECONDS.toMillis(2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        LogEntry remaining;
+        while ((remaining = buffer.poll()) != null) {
+            writeSafely(remaining);
+        }
+    }
+}
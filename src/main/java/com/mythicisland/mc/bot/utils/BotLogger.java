@@ -24,80 +24,213 @@
 package com.mythicisland.mc.bot.utils;
 
 import com.mythicisland.mc.bot.Main;
+import com.mythicisland.mc.bot.config.ConfigManager;
 import com.mythicisland.mc.bot.constants.BotConstants;
+import lombok.Getter;
 import lombok.experimental.UtilityClass;
 import org.bukkit.Bukkit;
 
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 @UtilityClass
 public class BotLogger {
 
+    private static final String PLACEHOLDER = "{}";
+
     private static Logger logger;
-    private static boolean debugMode = false;
+    private static volatile boolean debugMode = false;
+    private static volatile boolean logPackets = false;
+    @Getter
+    private static volatile AsyncLogAppender appender;
 
     public static void initialize(Main plugin) {
         logger = plugin.getLogger();
-        debugMode = plugin.getConfigManager().isDebugMode();
+        reload(plugin.getConfigManager());
+    }
+
+    public static void reload(ConfigManager configManager) {
+        debugMode = configManager.isDebugMode();
+        logPackets = configManager.shouldLogPackets();
+        configureAppender(configManager);
+    }
+
+    private static synchronized void configureAppender(ConfigManager configManager) {
+        AsyncLogAppender current = appender;
+
+        if (!configManager.isAsyncLogging()) {
+            appender = null;
+            if (current != null) {
+                current.shutdown();
+            }
+            return;
+        }
+
+        int bufferSize = configManager.getLogBufferSize();
+        AsyncLogAppender.OverflowPolicy policy =
+                AsyncLogAppender.OverflowPolicy.fromConfig(configManager.getLogOverflowPolicy());
+        if (current != null && current.getCapacity() == bufferSize && current.getOverflowPolicy() == policy) {
+            return;
+        }
+
+        appender = new AsyncLogAppender(bufferSize, policy, BotLogger::write);
+        if (current != null) {
+            current.shutdown();
+        }
+    }
+
+    public static synchronized void shutdown() {
+        AsyncLogAppender current = appender;
+        appender = null;
+        if (current != null) {
+            current.shutdown();
+        }
     }
 
     public static void setDebugMode(boolean debug) {
         debugMode = debug;
     }
 
+    public static boolean isDebugEnabled() {
+        return debugMode;
+    }
+
+    public static boolean isPacketLoggingEnabled() {
+        return debugMode && logPackets;
+    }
+
     public static void info(String message) {
-        if (logger != null) {
-            logger.info(message);
-        } else {
-            System.out.println("[INFO] " + message);
-        }
+        log(Level.INFO, message, null, false);
     }
 
     public static void warning(String message) {
-        if (logger != null) {
-            logger.warning(message);
-        } else {
-            System.out.println("[WARNING] " + message);
-        }
+        log(Level.WARNING, message, null, false);
     }
 
     public static void error(String message) {
-        if (logger != null) {
-            logger.severe(message);
-        } else {
-            System.err.println("[ERROR] " + message);
-        }
+        log(Level.SEVERE, message, null, false);
     }
 
     public static void error(String message, Throwable throwable) {
-        if (logger != null) {
-            logger.log(Level.SEVERE, message, throwable);
-        } else {
-            System.err.println("[ERROR] " + message);
-            throwable.printStackTrace();
-        }
+        log(Level.SEVERE, message, throwable, false);
     }
 
     public static void debug(String message) {
         if (debugMode) {
-            if (logger != null) {
-                logger.info("[DEBUG] " + message);
-            } else {
-                System.out.println("[DEBUG] " + message);
-            }
+            writeDebug(message);
         }
     }
 
+    public static void debug(Supplier<String> messageSupplier) {
+        if (debugMode) {
+            writeDebug(messageSupplier.get());
+        }
+    }
+
+    public static void debug(String template, Object arg) {
+        if (debugMode) {
+            writeDebug(format(template, arg));
+        }
+    }
+
+    public static void debug(String template, long arg) {
+        if (debugMode) {
+            writeDebug(format(template, arg));
+        }
+    }
+
+    public static void debug(String template, Object arg1, Object arg2) {
+        if (debugMode) {
+            writeDebug(format(template, arg1, arg2));
+        }
+    }
+
+    public static void debug(String template, Object arg1, Object arg2, Object arg3) {
+        if (debugMode) {
+            writeDebug(format(template, arg1, arg2, arg3));
+        }
+    }
+
+    private static void writeDebug(String message) {
+        log(Level.INFO, "[DEBUG] " + message, null, true);
+    }
+
     public static void packet(String message) {
-        if (debugMode && Main.getInstance() != null &&
-                Main.getInstance().getConfigManager().shouldLogPackets()) {
-            if (logger != null) {
-                logger.info("[PACKET] " + message);
+        if (isPacketLoggingEnabled()) {
+            writePacket(message);
+        }
+    }
+
+    public static void packet(Supplier<String> messageSupplier) {
+        if (isPacketLoggingEnabled()) {
+            writePacket(messageSupplier.get());
+        }
+    }
+
+    public static void packet(Class<?> packetType) {
+        if (isPacketLoggingEnabled()) {
+            writePacket("Incoming: " + packetType.getSimpleName());
+        }
+    }
+
+    public static void packet(String template, Object arg) {
+        if (isPacketLoggingEnabled()) {
+            writePacket(format(template, arg));
+        }
+    }
+
+    private static void writePacket(String message) {
+        log(Level.INFO, "[PACKET] " + message, null, true);
+    }
+
+    private static void log(Level level, String message, Throwable throwable, boolean verbose) {
+        AsyncLogAppender.LogEntry entry = new AsyncLogAppender.LogEntry(level, message, throwable, verbose);
+        AsyncLogAppender current = appender;
+
+        if (current != null) {
+            current.append(entry);
+        } else {
+            write(entry);
+        }
+    }
+
+    private static void write(AsyncLogAppender.LogEntry entry) {
+        if (logger != null) {
+            if (entry.getThrowable() != null) {
+                logger.log(entry.getLevel(), entry.getMessage(), entry.getThrowable());
             } else {
-                System.out.println("[PACKET] " + message);
+                logger.log(entry.getLevel(), entry.getMessage());
             }
+            return;
         }
+
+        if (entry.getLevel() == Level.SEVERE) {
+            System.err.println("[ERROR] " + entry.getMessage());
+            if (entry.getThrowable() != null) {
+                entry.getThrowable().printStackTrace();
+            }
+        } else if (entry.isVerbose()) {
+            System.out.println(entry.getMessage());
+        } else {
+            System.out.println("[" + entry.getLevel().getName() + "] " + entry.getMessage());
+        }
+    }
+
+    private static String format(String template, Object... args) {
+        StringBuilder builder = new StringBuilder(template.length() + 16 * args.length);
+        int cursor = 0;
+
+        for (Object arg : args) {
+            int index = template.indexOf(PLACEHOLDER, cursor);
+            if (index < 0) {
+                break;
+            }
+            builder.append(template, cursor, index).append(arg);
+            cursor = index + PLACEHOLDER.length();
+        }
+
+        return builder.append(template, cursor, template.length()).toString();
     }
 
     public static void broadcast(String message) {
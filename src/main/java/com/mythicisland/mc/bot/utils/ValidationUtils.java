@@ -47,6 +47,10 @@ public class ValidationUtils {
             "^[a-zA-Z0-9]([a-zA-Z0-9\\-]{0,61}[a-zA-Z0-9])?(\\.([a-zA-Z0-9]([a-zA-Z0-9\\-]{0,61}[a-zA-Z0-9])?))*$"
     );
 
+    private static final Pattern IPV6_PATTERN = Pattern.compile(
+            "^[0-9a-fA-F]{0,4}(:[0-9a-fA-F]{0,4}){2,7}(:((25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.){3}(25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?))?$"
+    );
+
     public static boolean isValidEmail(String email) {
         return StringUtils.isNotBlank(email) && EMAIL_PATTERN.matcher(email).matches();
     }
@@ -66,6 +70,7 @@ public class ValidationUtils {
 
         return "localhost".equalsIgnoreCase(host) ||
                 IP_PATTERN.matcher(host).matches() ||
+                IPV6_PATTERN.matcher(host).matches() ||
                 HOSTNAME_PATTERN.matcher(host).matches();
     }
 
@@ -0,0 +1,164 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.auth;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.mythicisland.mc.bot.constants.BotConstants;
+import com.mythicisland.mc.bot.exceptions.AuthenticationException;
+import okhttp3.mockwebserver.MockResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.io.IOException;
+
+import static com.mythicisland.mc.bot.auth.MicrosoftStubServer.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@Isolated
+class MicrosoftAuthTest {
+
+    private static final BotAccount ACCOUNT =
+            new BotAccount("stub", BotConstants.ACCOUNT_TYPE_MICROSOFT, EMAIL, null, PASSWORD);
+
+    private MicrosoftStubServer stub;
+
+    @BeforeEach
+    void startStub() throws Exception {
+        stub = new MicrosoftStubServer();
+        MicrosoftAuth.setHttpClient(MicrosoftAuth.createHttpClient());
+    }
+
+    @AfterEach
+    void stopStub() throws Exception {
+        stub.close();
+    }
+
+    @Test
+    void credentialsLoginWalksTheWholeChain() {
+        AuthSession session = MicrosoftAuth.login(ACCOUNT);
+
+        assertTrue(session.isValid());
+        assertEquals("stub-mc-token-1", session.getAccessToken());
+        assertEquals(PROFILE_NAME, session.getProfileName());
+        assertEquals(PROFILE_UUID, session.getProfile().getId());
+        assertNotNull(session.getMicrosoftSession());
+        assertTrue(session.belongsTo(ACCOUNT));
+
+        assertEquals(1, stub.hits(CREDENTIALS_PATH));
+        assertEquals(1, stub.hits(MSA_TOKEN_PATH));
+        assertEquals(1, stub.hits(XBL_PATH));
+        assertEquals(1, stub.hits(XSTS_PATH));
+        assertEquals(1, stub.hits(MC_LOGIN_PATH));
+        assertTrue(AuthHttp.getMetrics().statsFor("login.live.com").getCount() >= 3);
+        assertTrue(AuthHttp.getMetrics().statsFor("api.minecraftservices.com").getCount() >= 2);
+    }
+
+    @Test
+    void renewReplacesValidMinecraftTokenOnly() {
+        AuthSession session = MicrosoftAuth.login(ACCOUNT);
+
+        AuthSession renewed = MicrosoftAuth.refresh(ACCOUNT, session, true);
+
+        assertEquals("stub-mc-token-2", renewed.getAccessToken());
+        assertTrue(renewed.getExpiresAtMillis() >= session.getExpiresAtMillis());
+        assertEquals(2, stub.hits(MC_LOGIN_PATH));
+        assertEquals(1, stub.hits(CREDENTIALS_PATH));
+        assertEquals(1, stub.hits(MSA_TOKEN_PATH));
+        assertEquals(1, stub.hits(XBL_PATH));
+        assertEquals(1, stub.hits(XSTS_PATH));
+    }
+
+    @Test
+    void refreshRedoesOnlyTheExpiredMinecraftStep() {
+        AuthSession session = MicrosoftAuth.login(ACCOUNT);
+        AuthSession expired = withExpiredToken(session, session.getAccessToken());
+
+        AuthSession refreshed = MicrosoftAuth.refresh(ACCOUNT, expired);
+
+        assertEquals("stub-mc-token-2", refreshed.getAccessToken());
+        assertEquals(2, stub.hits(MC_LOGIN_PATH));
+        assertEquals(1, stub.hits(CREDENTIALS_PATH));
+        assertEquals(1, stub.hits(MSA_TOKEN_PATH));
+        assertEquals(1, stub.hits(XBL_PATH));
+        assertEquals(1, stub.hits(XSTS_PATH));
+    }
+
+    @Test
+    void refusedGrantIsRejected() {
+        stub.override(MSA_TOKEN_PATH, new MockResponse().setResponseCode(400)
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"error\":\"invalid_grant\",\"error_description\":\"AADSTS70000: The code has expired.\"}"));
+
+        AuthenticationException e = assertThrows(AuthenticationException.class, () -> MicrosoftAuth.login(ACCOUNT));
+
+        assertTrue(e.isRejected(), e.getMessage());
+    }
+
+    @Test
+    void unavailableServiceIsTransient() {
+        stub.override(AUTHORIZE_PATH, new MockResponse().setResponseCode(503));
+
+        AuthenticationException e = assertThrows(AuthenticationException.class, () -> MicrosoftAuth.login(ACCOUNT));
+
+        assertFalse(e.isRejected(), e.getMessage());
+    }
+
+    @Test
+    void refreshKeepsTransientFailuresRetryable() {
+        AuthSession session = MicrosoftAuth.login(ACCOUNT);
+        AuthSession expired = withExpiredToken(session, session.getAccessToken());
+        stub.override(MC_LOGIN_PATH, new MockResponse().setResponseCode(503));
+
+        AuthenticationException e = assertThrows(AuthenticationException.class,
+                () -> MicrosoftAuth.refresh(ACCOUNT, expired));
+
+        assertFalse(e.isRejected(), e.getMessage());
+    }
+
+    @Test
+    void statusDigitsInTransientErrorsAreNotRejections() {
+        IOException reset = new IOException("Connection reset after 403 bytes from 10.0.0.1:40301");
+
+        assertFalse(MicrosoftAuth.classify("failed", new RuntimeException(reset)).isRejected());
+        assertFalse(MicrosoftAuth.classify("failed", new IOException("Unauthorized proxy 401")).isRejected());
+    }
+
+    @Test
+    void oauthErrorCodeInWrappedMessageIsRejection() {
+        Exception wrapped = new RuntimeException(new IOException("invalid_grant: refresh token revoked"));
+
+        assertTrue(MicrosoftAuth.classify("failed", wrapped).isRejected());
+    }
+
+    private static AuthSession withExpiredToken(AuthSession session, String accessToken) {
+        JsonObject chain = JsonParser.parseString(session.getMicrosoftSession()).getAsJsonObject();
+        assertTrue(MicrosoftAuth.expireStep(chain, accessToken), "token not found in serialized chain");
+        return new AuthSession(session.getAccountType(), session.getLogin(), session.getProfileId(),
+                session.getProfileName(), session.getAccessToken(), session.getClientToken(),
+                session.getRefreshToken(), chain.toString(), session.getIssuedAtMillis(), 0L);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.auth;
+
+import com.mythicisland.mc.bot.connection.CircuitBreaker;
+import com.mythicisland.mc.bot.connection.TokenBucket;
+import com.mythicisland.mc.bot.constants.BotConstants;
+import com.mythicisland.mc.bot.metrics.AuthMetrics;
+import io.netty.util.HashedWheelTimer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.io.File;
+
+import static com.mythicisland.mc.bot.auth.MicrosoftStubServer.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@Isolated
+class SessionRefresherTest {
+
+    private static final BotAccount ACCOUNT =
+            new BotAccount("stub", BotConstants.ACCOUNT_TYPE_MICROSOFT, EMAIL, null, PASSWORD);
+
+    @TempDir
+    File dataFolder;
+
+    private MicrosoftStubServer stub;
+    private HashedWheelTimer timer;
+    private TokenCache tokenCache;
+    private AuthMetrics metrics;
+    private SessionRefresher refresher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new MicrosoftStubServer();
+        MicrosoftAuth.setHttpClient(MicrosoftAuth.createHttpClient());
+
+        timer = new HashedWheelTimer();
+        tokenCache = new TokenCache(dataFolder);
+        tokenCache.load();
+        metrics = new AuthMetrics();
+        AuthGuard guard = new AuthGuard(new TokenBucket(10, 600), new CircuitBreaker("auth", 5, 60_000));
+        refresher = new SessionRefresher(timer, tokenCache, metrics, guard);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        refresher.shutdown();
+        timer.stop();
+        stub.close();
+    }
+
+    @Test
+    void reusesValidCachedToken() {
+        AuthSession first = refresher.authenticate(ACCOUNT, false).join();
+        AuthSession second = refresher.authenticate(ACCOUNT, false).join();
+
+        assertEquals(first.getAccessToken(), second.getAccessToken());
+        assertEquals(1, metrics.getFullLogins());
+        assertEquals(1, metrics.getCacheHits());
+    }
+
+    @Test
+    void forcedRefreshRenewsTokenBeforeExpiry() {
+        AuthSession first = refresher.authenticate(ACCOUNT, false).join();
+        assertTrue(first.isUsableFor(AuthManager.REUSE_MARGIN_MILLIS));
+
+        AuthSession renewed = refresher.authenticate(ACCOUNT, true).join();
+
+        assertNotEquals(first.getAccessToken(), renewed.getAccessToken());
+        assertEquals(renewed.getAccessToken(), tokenCache.get(ACCOUNT).getAccessToken());
+        assertEquals(1, metrics.getRefreshes());
+        assertEquals(1, stub.hits(CREDENTIALS_PATH));
+        assertEquals(1, stub.hits(MSA_TOKEN_PATH));
+        assertEquals(2, stub.hits(MC_LOGIN_PATH));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.config;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigDiffTest {
+
+    @Test
+    void identicalSnapshotsAreEmpty() throws Exception {
+        BotConfig config = BotConfig.read(defaults());
+
+        assertTrue(ConfigDiff.between(config, BotConfig.read(defaults())).isEmpty());
+    }
+
+    @Test
+    void keepAliveIntervalIsAppliedLive() throws Exception {
+        ConfigDiff diff = diffAfter("bot.advanced.keep-alive-interval", 5);
+
+        assertTrue(diff.keepAliveChanged());
+        assertFalse(diff.restartRequired());
+    }
+
+    @Test
+    void probeIntervalAndTimeoutRestartTheSelector() throws Exception {
+        assertTrue(diffAfter("bot.advanced.server-probe-interval", 60).serverProbeChanged());
+        assertTrue(diffAfter("bot.advanced.connection-timeout", 30).serverProbeChanged());
+        assertFalse(diffAfter("bot.advanced.connection-timeout", 30).restartRequired());
+    }
+
+    @Test
+    void loggingChangesAreGrouped() throws Exception {
+        assertTrue(diffAfter("plugin.debug-mode", false).loggingChanged());
+        assertTrue(diffAfter("plugin.log-packets", false).loggingChanged());
+        assertTrue(diffAfter("plugin.logging.buffer-size", 1024).loggingChanged());
+    }
+
+    @Test
+    void languageAndWatchFilesAreSeparate() throws Exception {
+        ConfigDiff language = diffAfter("plugin.language", "de-de");
+        ConfigDiff watch = diffAfter("plugin.watch-files", false);
+
+        assertTrue(language.languageChanged());
+        assertFalse(language.watchFilesChanged());
+        assertTrue(watch.watchFilesChanged());
+        assertFalse(watch.languageChanged());
+    }
+
+    @Test
+    void structuralChangesRequireRestart() throws Exception {
+        assertTrue(diffAfter("bot.account.email", "other@example.com").restartRequired());
+        assertTrue(diffAfter("bot.servers", List.of("play.example.com")).restartRequired());
+        assertTrue(diffAfter("bot.fleet.max-concurrent-connects", 8).restartRequired());
+        assertTrue(diffAfter("plugin.language-cache.max-size", 4).restartRequired());
+    }
+
+    @Test
+    void perUseSettingsNeedNoAction() throws Exception {
+        assertTrue(diffAfter("bot.behavior.reconnect-delay-seconds", 5).isEmpty());
+        assertTrue(diffAfter("bot.advanced.packet-delay-ms", 0).isEmpty());
+    }
+
+    private static ConfigDiff diffAfter(String path, Object value) throws Exception {
+        YamlConfiguration changed = defaults();
+        changed.set(path, value);
+        return ConfigDiff.between(BotConfig.read(defaults()), BotConfig.read(changed));
+    }
+
+    private static YamlConfiguration defaults() throws Exception {
+        try (InputStream in = ConfigDiffTest.class.getResourceAsStream("/config.yml");
+             Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return YamlConfiguration.loadConfiguration(reader);
+        }
+    }
+}
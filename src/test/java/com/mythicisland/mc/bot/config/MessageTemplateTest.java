@@ -0,0 +1,75 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MessageTemplateTest {
+
+    @Test
+    void substitutesPlaceholdersInOrderOfIndex() {
+        MessageTemplate template = MessageTemplate.compile("{1} joined {0}, {1}!");
+
+        assertEquals(3, template.getPlaceholderCount());
+        assertEquals("Bot joined lobby, Bot!", template.format("lobby", "Bot"));
+    }
+
+    @Test
+    void translatesColorCodes() {
+        assertEquals("§aOnline §7({0})", MessageTemplate.compile("&aOnline &7({0})").format());
+    }
+
+    @Test
+    void keepsPlaceholdersWithoutArgumentVerbatim() {
+        MessageTemplate template = MessageTemplate.compile("{0} and {1}");
+
+        assertEquals("a and {1}", template.format("a"));
+        assertEquals("{0} and {1}", template.format((Object[]) null));
+    }
+
+    @Test
+    void messageWithoutPlaceholdersIsReturnedAsIs() {
+        assertEquals("plain", MessageTemplate.compile("plain").format("ignored"));
+    }
+
+    @Test
+    void treatsMalformedBracesAsText() {
+        assertEquals("{} {a} {1 {", MessageTemplate.compile("{} {a} {1 {").format("x"));
+    }
+
+    @Test
+    void treatsOversizedIndicesAsText() {
+        MessageTemplate template = MessageTemplate.compile("{99999999999} {12345} {9999}");
+
+        assertEquals(1, template.getPlaceholderCount());
+        assertEquals("{99999999999} {12345} {9999}", template.format("x"));
+    }
+
+    @Test
+    void treatsNonAsciiDigitsAsText() {
+        assertEquals("{١}", MessageTemplate.compile("{١}").format("x", "y"));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.connection;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private static final long LONG_OPEN_MILLIS = 60_000;
+
+    @Test
+    void staysClosedBelowThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 3, LONG_OPEN_MILLIS);
+
+        failTimes(breaker, 2);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(2, breaker.getConsecutiveFailures());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void opensAtThresholdAndRejectsCalls() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 3, LONG_OPEN_MILLIS);
+
+        failTimes(breaker, 3);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        assertTrue(breaker.getRemainingOpenMillis() > 0);
+        assertTrue(breaker.getRemainingOpenMillis() <= LONG_OPEN_MILLIS);
+    }
+
+    @Test
+    void successResetsFailureCount() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 3, LONG_OPEN_MILLIS);
+
+        failTimes(breaker, 2);
+        assertTrue(breaker.tryAcquire());
+        breaker.recordSuccess();
+        failTimes(breaker, 2);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(2, breaker.getConsecutiveFailures());
+    }
+
+    @Test
+    void letsOneProbeThroughAfterOpenPeriod() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, 0);
+        failTimes(breaker, 1);
+
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void successfulProbeCloses() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, 0);
+        failTimes(breaker, 1);
+
+        assertTrue(breaker.tryAcquire());
+        breaker.recordSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getConsecutiveFailures());
+        assertEquals(0, breaker.getRemainingOpenMillis());
+    }
+
+    @Test
+    void failedProbeReopens() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 5, 0);
+        failTimes(breaker, 5);
+
+        assertTrue(breaker.tryAcquire());
+        breaker.recordFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(6, breaker.getConsecutiveFailures());
+    }
+
+    @Test
+    void releasedProbeReturnsToOpen() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, 0);
+        failTimes(breaker, 1);
+
+        assertTrue(breaker.tryAcquire());
+        breaker.release();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void releaseWhileClosedChangesNothing() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, LONG_OPEN_MILLIS);
+
+        assertTrue(breaker.tryAcquire());
+        breaker.release();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    private static void failTimes(CircuitBreaker breaker, int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.recordFailure();
+        }
+    }
+}
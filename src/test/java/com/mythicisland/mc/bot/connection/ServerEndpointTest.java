@@ -0,0 +1,153 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.connection;
+
+import com.mythicisland.mc.bot.exceptions.ConfigurationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerEndpointTest {
+
+    @Test
+    void parsesHostWithDefaultPort() {
+        ServerEndpoint endpoint = ServerEndpoint.parse("  play.example.com ", 25565);
+
+        assertEquals("play.example.com", endpoint.getHost());
+        assertEquals(25565, endpoint.getPort());
+    }
+
+    @Test
+    void parsesHostAndPort() {
+        ServerEndpoint endpoint = ServerEndpoint.parse("10.0.0.5:25570", 25565);
+
+        assertEquals("10.0.0.5", endpoint.getHost());
+        assertEquals(25570, endpoint.getPort());
+        assertEquals("10.0.0.5:25570", endpoint.toString());
+    }
+
+    @Test
+    void rejectsNonNumericPortNamingTheAddress() {
+        ConfigurationException error = assertThrows(ConfigurationException.class,
+                () -> ServerEndpoint.parse("play.example.com:abc", 25565));
+
+        assertTrue(error.getMessage().contains("play.example.com:abc"));
+    }
+
+    @Test
+    void parsesBracketedIpv6WithPort() {
+        ServerEndpoint endpoint = ServerEndpoint.parse("[2001:db8::1]:25570", 25565);
+
+        assertEquals("2001:db8::1", endpoint.getHost());
+        assertEquals(25570, endpoint.getPort());
+        assertEquals("[2001:db8::1]:25570", endpoint.toString());
+    }
+
+    @Test
+    void parsesBracketedIpv6WithDefaultPort() {
+        ServerEndpoint endpoint = ServerEndpoint.parse("[::1]", 25565);
+
+        assertEquals("::1", endpoint.getHost());
+        assertEquals(25565, endpoint.getPort());
+    }
+
+    @Test
+    void unbracketedIpv6HasNoPort() {
+        ServerEndpoint endpoint = ServerEndpoint.parse("2001:db8::25570", 25565);
+
+        assertEquals("2001:db8::25570", endpoint.getHost());
+        assertEquals(25565, endpoint.getPort());
+    }
+
+    @Test
+    void rejectsMalformedBrackets() {
+        assertThrows(ConfigurationException.class, () -> ServerEndpoint.parse("[::1", 25565));
+        assertThrows(ConfigurationException.class, () -> ServerEndpoint.parse("[::1]25570", 25565));
+        assertThrows(ConfigurationException.class, () -> ServerEndpoint.parse("[::1]:port", 25565));
+    }
+
+    @Test
+    void unprobedEndpointIsAvailableButRanksBehindProbedOnes() {
+        ServerEndpoint unprobed = new ServerEndpoint("a", 1);
+        ServerEndpoint probed = new ServerEndpoint("b", 1);
+        probed.recordSuccess(TimeUnit.SECONDS.toNanos(5));
+
+        assertTrue(unprobed.isAvailable());
+        assertTrue(probed.getScore() < unprobed.getScore());
+    }
+
+    @Test
+    void failingEndpointRanksLastAndByFailureCount() {
+        ServerEndpoint unprobed = new ServerEndpoint("a", 1);
+        ServerEndpoint failedOnce = new ServerEndpoint("b", 1);
+        ServerEndpoint failedTwice = new ServerEndpoint("c", 1);
+        failedOnce.recordFailure();
+        failedTwice.recordFailure();
+        failedTwice.recordFailure();
+
+        assertFalse(failedOnce.isAvailable());
+        assertTrue(unprobed.getScore() < failedOnce.getScore());
+        assertTrue(failedOnce.getScore() < failedTwice.getScore());
+        assertEquals(2, failedTwice.getConsecutiveFailures());
+    }
+
+    @Test
+    void rttIsSmoothed() {
+        ServerEndpoint endpoint = new ServerEndpoint("a", 1);
+
+        endpoint.recordSuccess(TimeUnit.MICROSECONDS.toNanos(1000));
+        assertEquals(1000, endpoint.getScore());
+
+        endpoint.recordSuccess(TimeUnit.MICROSECONDS.toNanos(2000));
+        assertEquals(1300, endpoint.getScore());
+    }
+
+    @Test
+    void successfulProbeOrConnectClearsFailures() {
+        ServerEndpoint probed = new ServerEndpoint("a", 1);
+        probed.recordFailure();
+        probed.recordSuccess(TimeUnit.MICROSECONDS.toNanos(500));
+
+        ServerEndpoint connected = new ServerEndpoint("b", 1);
+        connected.recordFailure();
+        connected.recordConnectSuccess();
+
+        assertTrue(probed.isAvailable());
+        assertEquals(500, probed.getScore());
+        assertTrue(connected.isAvailable());
+        assertEquals(0, connected.getConsecutiveFailures());
+    }
+
+    @Test
+    void onlyOneProbeRunsAtATime() {
+        ServerEndpoint endpoint = new ServerEndpoint("a", 1);
+
+        assertTrue(endpoint.tryStartProbe());
+        assertFalse(endpoint.tryStartProbe());
+        endpoint.finishProbe();
+        assertTrue(endpoint.tryStartProbe());
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.connection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long NO_WAIT = 0;
+    private static final long ONE_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    @Test
+    void allowsBurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(3, 1);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.reserve(NO_WAIT));
+        }
+        assertEquals(-1, bucket.reserve(NO_WAIT));
+        assertEquals(0, bucket.getAvailableTokens());
+    }
+
+    @Test
+    void rejectedReservationTakesNothing() {
+        TokenBucket bucket = new TokenBucket(1, 1);
+        bucket.reserve(NO_WAIT);
+
+        assertEquals(-1, bucket.reserve(NO_WAIT));
+        long wait = bucket.reserve(ONE_MINUTE);
+
+        assertTrue(wait > 0 && wait <= ONE_MINUTE, "wait " + wait);
+    }
+
+    @Test
+    void queuesLaterCallersBehindEarlierOnes() {
+        TokenBucket bucket = new TokenBucket(1, 60);
+        bucket.reserve(NO_WAIT);
+
+        long first = bucket.reserve(ONE_MINUTE);
+        long second = bucket.reserve(ONE_MINUTE);
+
+        assertTrue(first > 0 && first <= TimeUnit.SECONDS.toNanos(1), "first " + first);
+        assertTrue(second > first, "second " + second + " not after " + first);
+        assertTrue(second <= TimeUnit.SECONDS.toNanos(2), "second " + second);
+    }
+
+    @Test
+    void refillsOverTime() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(1, 60_000);
+        bucket.reserve(NO_WAIT);
+
+        Thread.sleep(10);
+
+        assertEquals(1, bucket.getAvailableTokens());
+        assertEquals(0, bucket.reserve(NO_WAIT));
+    }
+
+    @Test
+    void neverRefillsBeyondCapacity() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(2, 60_000);
+
+        Thread.sleep(10);
+
+        assertEquals(2, bucket.getAvailableTokens());
+        assertEquals(2, bucket.getCapacity());
+    }
+}
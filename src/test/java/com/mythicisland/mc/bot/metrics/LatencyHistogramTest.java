@@ -0,0 +1,118 @@
+/*
+ * This file is part of Simple Minecraft Bot, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Mythic Island
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.mythicisland.mc.bot.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMeanNanos());
+        assertEquals(0, histogram.getPercentileNanos(99));
+        assertEquals(0, histogram.getMaxNanos());
+    }
+
+    @Test
+    void smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 20; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(20, histogram.getCount());
+        assertEquals(10, histogram.getPercentileNanos(50));
+        assertEquals(20, histogram.getPercentileNanos(100));
+        assertEquals(10, histogram.getMeanNanos());
+    }
+
+    @Test
+    void percentilesStayWithinRelativePrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 1000; micros++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+
+        assertWithinPrecision(TimeUnit.MICROSECONDS.toNanos(500), histogram.getPercentileNanos(50));
+        assertWithinPrecision(TimeUnit.MICROSECONDS.toNanos(990), histogram.getPercentileNanos(99));
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(1000), histogram.getPercentileNanos(100));
+        assertEquals(1000, histogram.getMaxMicros());
+    }
+
+    @Test
+    void percentileNeverExceedsMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000_001);
+
+        assertEquals(1_000_001, histogram.getPercentileNanos(50));
+    }
+
+    @Test
+    void clampsNegativeAndHugeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(2, histogram.getCount());
+        assertEquals(0, histogram.getPercentileNanos(50));
+        assertTrue(histogram.getMaxNanos() < Long.MAX_VALUE);
+    }
+
+    @Test
+    void bucketsAreContiguousAndCoverTheirValues() {
+        int previous = -1;
+        for (long value = 0; value < 1 << 20; value += 1 + value / 64) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(index >= previous, "index went backwards at " + value);
+            assertTrue(value <= LatencyHistogram.upperBoundOf(index), "value above bucket bound at " + value);
+            if (index > 0) {
+                assertTrue(value > LatencyHistogram.upperBoundOf(index - 1), "value below bucket at " + value);
+            }
+            previous = index;
+        }
+    }
+
+    @Test
+    void resetClearsEverything() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1234);
+
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+        assertEquals(0, histogram.getPercentileNanos(50));
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * 0.07, "expected ~" + expected + " but was " + actual);
+    }
+}